@@ -28,7 +28,8 @@ package it.unicam.cs.mpmgc.formula1.api.game;
 import it.unicam.cs.mpmgc.formula1.api.utils.ConsoleMessages;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 import it.unicam.cs.mpmgc.formula1.api.players.iCar;
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
 import it.unicam.cs.mpmgc.formula1.api.track.TrackRenderer;
 
 import java.util.Scanner;
@@ -40,7 +41,8 @@ public class GamePlay implements iGamePlay {
 
     private boolean gameFinished;
     private final GameSetup gameSetup;
-    private final Track track;
+    private final iTrack track;
+    private final TrackOverlay overlay;
     private final ConsoleMessages messages;
     private final TrackRenderer trackRenderer;
 
@@ -56,6 +58,7 @@ public class GamePlay implements iGamePlay {
         this.gameFinished = false;
         this.gameSetup = setup;
         this.track = setup.getTrack();
+        this.overlay = setup.getOverlay();
         this.messages = new ConsoleMessages();
         this.trackRenderer = new TrackRenderer();
     }
@@ -76,7 +79,7 @@ public class GamePlay implements iGamePlay {
                     break;
                 }
             }
-            trackRenderer.displayTrack(track);
+            trackRenderer.displayTrack(overlay);
         }
         messages.endGameMessage();
         scan.close();
@@ -93,32 +96,31 @@ public class GamePlay implements iGamePlay {
     /**
      * The player turn is in this order:
      * display in console the player name and turn,
-     * clear its position on track matrix,
+     * clear its position on the track overlay,
      * move the player using its own strategy,
-     * and place the player to its new position on track matrix.
+     * and place the player to its new position on the track overlay.
      * @param player the player which is going to do the move.
      */
     @Override
     public void executeTurn(iCar player) {
         messages.playerTurnMessage(player);
-        trackRenderer.clearPlayerPosition(player, track);
+        trackRenderer.clearPlayerPosition(player, overlay);
         player.getMovementStrategy().move(player.getCurrentPosition());
-        trackRenderer.placePlayer(player, track);
+        trackRenderer.placePlayer(player, overlay);
     }
 
     /**
-     * Checks if player has won the game, by comparing its position to the finish line positions.
+     * Checks if player has won the game, by looking up its position in the track finish line index.
      * @param player the player to be checked.
      * @return true if player has won, false otherwise.
      */
     @Override
     public boolean checkWinner(iCar player){
-        for (Position position : track.getFinishLine()){
-            if (player.getCurrentPosition().equals(position)){
-                messages.winnerNameMessage(player);
-                endGame();
-                return true;
-            }
+        Position position = player.getCurrentPosition();
+        if (track.isFinish(position.getRow(), position.getColumn())){
+            messages.winnerNameMessage(player);
+            endGame();
+            return true;
         }
         return false;
     }
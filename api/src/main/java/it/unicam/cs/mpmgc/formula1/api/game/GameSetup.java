@@ -28,11 +28,17 @@ package it.unicam.cs.mpmgc.formula1.api.game;
 import it.unicam.cs.mpmgc.formula1.api.players.*;
 import it.unicam.cs.mpmgc.formula1.api.utils.FileIO;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackCache;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
 import it.unicam.cs.mpmgc.formula1.api.track.TrackRenderer;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class setups the game track and players to be ready for use.
@@ -41,59 +47,182 @@ public class GameSetup{
 
     private final List<Car> players;
     private int initialPlayerRow;
-    private Track track;
+    private iTrack track;
+    private TrackOverlay overlay;
+    private final TrackType trackType;
     private final FileIO fileIO;
+    private final RandomGenerator random;
     private final TrackRenderer trackRenderer;
     private static final int INITIAL_PLAYER_COLUMN = 1;
 
     /**
      * Creates an instance of GameSetup, and starts an Arraylist for players data.
+     * The track is stored as a character matrix.
      */
     public GameSetup() {
+        this(TrackType.MATRIX);
+    }
+
+    /**
+     * Creates an instance of GameSetup which stores the track with the given representation.
+     * @param trackType the representation of the track to be created.
+     * @throws IllegalArgumentException if trackType is null.
+     */
+    public GameSetup(TrackType trackType) {
+        this(trackType, new SplittableRandom());
+    }
+
+    /**
+     * Creates an instance of GameSetup whose HARD bots choose their speed from the given random generator,
+     * so a seeded generator makes the whole game repeatable.
+     * If the generator is splittable, every HARD bot gets its own split stream of it.
+     * @param trackType the representation of the track to be created.
+     * @param random the random generator of the HARD bots.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public GameSetup(TrackType trackType, RandomGenerator random) {
+        this(trackType, new FileIO(), random);
+    }
+
+    /**
+     * Creates an instance of GameSetup which initializes track and players from an already loaded FileIO,
+     * so many races can be set up from the same files without reading them again.
+     * The HARD bots choose their speed with the given random generator.
+     * @param trackType the representation of the track to be created.
+     * @param fileIO the FileIO holding the track and players data.
+     * @param random the random generator of the HARD bots.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    GameSetup(TrackType trackType, FileIO fileIO, RandomGenerator random) {
+        if (trackType == null || fileIO == null || random == null){
+            throw new IllegalArgumentException("Track type, FileIO and random generator can not be null.");
+        }
+        this.trackType = trackType;
         this.players = new ArrayList<>();
         this.initialPlayerRow = 1;
-        this.fileIO = new FileIO();
+        this.fileIO = fileIO;
+        this.random = random;
         this.trackRenderer = new TrackRenderer();
     }
 
     /**
      * Loads the track and players data, and initialize them, then it renders the game to be ready.
+     * The track is taken from the shared TrackCache, and the players are drawn on an overlay of it,
+     * so the cached track is shared without copying it.
      */
     public void setupGame(String players, String track){
-        loadTrackAndPlayers(players, track);
-        initializeTrack();
+        fileIO.parsePlayers(fileIO.readFile(players));
+        setTrack(new TrackOverlay(cachedTrack(track)));
         initializePlayers();
         renderGame();
     }
 
     /**
-     * Read and Parse track and player data from the given text files using FileIO methods.
+     * Loads the track and players data, and initialize them, without rendering anything,
+     * so the game is ready to be run by a headless RaceEngine.
+     * The track is shared with the other games on the same track file through the TrackCache,
+     * so it is read and parsed only once.
      */
-    public void loadTrackAndPlayers(String players, String track){
-        List<String> trackLines = fileIO.readFile(track);
-        List<String> playerLines = fileIO.readFile(players);
-
-        fileIO.parseTrack(trackLines);
-        fileIO.parsePlayers(playerLines);
+    public void loadGame(String players, String track){
+        loadGame(players, cachedTrack(track));
     }
 
     /**
-     * Checks if the track is not null before initializing it.
+     * Loads the players data, and initialize them on an already created track, without rendering anything,
+     * so a track loaded once, for example from a binary track file, can be raced on by many headless games.
+     * @param players the name of the players file.
+     * @param track the track to race on, without players drawn on it.
+     * @throws IllegalArgumentException if track is null.
      */
-    public void checkInitializedTrack(){
+    public void loadGame(String players, iTrack track){
         if (track == null){
-            throw new IllegalArgumentException("Track must be initialized before initializing players.");
+            throw new IllegalArgumentException("Track can not be null.");
         }
+        fileIO.parsePlayers(fileIO.readFile(players));
+        setTrack(track);
+        initializePlayers();
     }
 
     /**
-     * Initializes the track by making a new instance of Track
-     * with rows and columns dimensions obtained from the read track file in FileIO.
+     * Loads the track and players data into a race state, which keeps the cars in parallel arrays,
+     * so a players file can race hundreds of bots on the shared track without a Car object for every bot.
+     * The cars fill the starting grid down the first column, as the players of a game, then down the next columns,
+     * up to the maximum number of players of the players file.
+     * This setup keeps no Car, its overlay is the track of the race state.
+     * @param players the name of the players file, with bots only.
+     * @param track the name of the track file.
+     * @return the race state with all the cars on their starting cells.
+     * @throws IllegalArgumentException if a player is not a bot.
+     * @throws IllegalStateException if the track has not enough starting cells.
      */
-    public void initializeTrack(){
-        int[] dimensions = fileIO.loadTrack();
-        this.track = new Track(dimensions[0], dimensions[1]);
-        track.createTrack(fileIO.getTrackLines());
+    public RaceState loadRaceState(String players, String track){
+        fileIO.parsePlayers(fileIO.readFile(players));
+        setTrack(cachedTrack(track));
+        RaceState state = new RaceState(getOverlay(), botRandom());
+        int maxPlayers = fileIO.getMaxPlayers();
+        for (String[] pair : fileIO.loadPlayers()){
+            if (state.size() >= maxPlayers){
+                System.err.println("Max players reached. Skipping additional players");
+                break;
+            }
+            state.addCar(pair[0], pair[1]);
+        }
+        return state;
+    }
+
+    /**
+     * Gets a track from the shared TrackCache.
+     * @param track the name of the track file.
+     * @return the shared track, with the representation of this setup.
+     * @throws RuntimeException if the file can't be found or read.
+     */
+    private iTrack cachedTrack(String track){
+        try {
+            return TrackCache.shared().get(track, trackType);
+        } catch (IOException e){
+            throw new RuntimeException("Error reading the file", e);
+        }
+    }
+
+    /**
+     * Gets the lines of a track, without the markers drawn on it.
+     * @param track the track.
+     * @return the track lines, in the format read from the track files.
+     */
+    private static List<String> linesOf(iTrack track){
+        iTrack base = track instanceof TrackOverlay overlay ? overlay.getBase() : track;
+        List<String> lines = new ArrayList<>(base.getRows());
+        char[] line = new char[base.getColumns()];
+        for (int row = 0; row < base.getRows(); row++){
+            for (int column = 0; column < line.length; column++){
+                line[column] = base.cellAt(row, column);
+            }
+            lines.add(new String(line));
+        }
+        return lines;
+    }
+
+    /**
+     * Initializes the game on a track created before and shared with other headless games,
+     * so many races can run on the same track without copying it.
+     * @param sharedTrack the track, which must never be drawn on.
+     */
+    void initializeTrack(iTrack sharedTrack){
+        setTrack(sharedTrack);
+    }
+
+    private void setTrack(iTrack track){
+        this.track = track;
+        this.overlay = null;
+    }
+
+    /**
+     * Checks if the track is not null before initializing it.
+     */
+    public void checkInitializedTrack(){
+        if (track == null){
+            throw new IllegalArgumentException("Track must be initialized before initializing players.");
+        }
     }
 
     /**
@@ -118,8 +247,9 @@ public class GameSetup{
 
     /**
      * It splits the player data into type and name, and in base of the type
-     * it creates a new Car instance with its own moving strategy.
-     * Then it updates its position to the available starting position,
+     * it creates a new Car instance with its own moving strategy, which moves on the track overlay of this game,
+     * so the cars can not land on each other.
+     * Then it updates its position to the available starting position, marks it on the overlay,
      * and adds the Car to the players arrayList
      * @param playerData the player data which contains the name and type of car.
      */
@@ -127,28 +257,58 @@ public class GameSetup{
         Car player ;
         String playerType = playerData[0];
         String playerName = playerData[1];
-        Position newPlayerPosition = new Position(initialPlayerRow, INITIAL_PLAYER_COLUMN);
-        if (track.checkValidMove(newPlayerPosition)){
+        TrackOverlay overlay = getOverlay();
+        Position newPlayerPosition = overlay.positionAt(initialPlayerRow, INITIAL_PLAYER_COLUMN);
+        if (overlay.checkValidMove(newPlayerPosition)){
             switch (playerType) {
-                case "HardBot"  : player = new Car(playerName, new HardBotStrategy(track));     break;
-                case "EasyBot"  : player = new Car(playerName, new EasyBotStrategy(track));     break;
-                case "Human": player = new Car(playerName, new HumanMovementStrategy(track));   break;
+                case "HardBot"  : player = new Car(playerName, new HardBotStrategy(overlay, botRandom())); break;
+                case "EasyBot"  : player = new Car(playerName, new EasyBotStrategy(overlay));     break;
+                case "DistanceBot" : player = new Car(playerName, new DistanceBotStrategy(overlay)); break;
+                case "OptimalBot"  : player = new Car(playerName, new OptimalBotStrategy(overlay));  break;
+                case "Human": player = new Car(playerName, new HumanMovementStrategy(overlay));   break;
                 default     : System.err.println(playerType + ": Type is not Bot/Human -- WILL BE SKIPPED.");return;
             }
             player.updatePosition(newPlayerPosition);
+            trackRenderer.placePlayer(player, overlay);
             players.add(player);
             initialPlayerRow++;
         }
     }
 
     /**
-     * Places every player in its own position on the track matrix, then displays the track.
+     * Gets the random generator of a new HARD bot.
+     * @return a split stream of the setup generator if it is splittable, the setup generator otherwise.
+     */
+    private RandomGenerator botRandom(){
+        if (random instanceof RandomGenerator.SplittableGenerator splittable){
+            return splittable.split();
+        }
+        return random;
+    }
+
+    /**
+     * Places every player in its own position on the track overlay, then displays the track.
      */
     public void renderGame(){
+        TrackOverlay overlay = getOverlay();
         for (iCar player : players){
-            trackRenderer.placePlayer(player, track);
+            trackRenderer.placePlayer(player, overlay);
         }
-        trackRenderer.displayTrack(track);
+        trackRenderer.displayTrack(overlay);
+    }
+
+    /**
+     * Gets the overlay where the players of this game are drawn, and which their strategies move on.
+     * A game loaded without rendering keeps the shared track, so its overlay is created over it,
+     * and the shared track is never changed.
+     * @return the track overlay of this game.
+     */
+    public TrackOverlay getOverlay(){
+        checkInitializedTrack();
+        if (overlay == null){
+            overlay = track instanceof TrackOverlay trackOverlay ? trackOverlay : new TrackOverlay(track);
+        }
+        return overlay;
     }
 
     /**
@@ -161,13 +321,17 @@ public class GameSetup{
      * Gets the track.
      * @return the track.
      */
-    public Track getTrack(){ return track; }
+    public iTrack getTrack(){ return track; }
 
     /**
      * Gets the trackLines list of strings.
+     * When the track was not parsed from its lines, they are built from the track the first time they are requested.
      * @return the trackLines list of strings.
      */
     public List<String> getTrackLines(){
+        if (fileIO.getTrackLines().isEmpty() && track != null){
+            fileIO.parseTrack(linesOf(track));
+        }
         return fileIO.getTrackLines();
     }
 
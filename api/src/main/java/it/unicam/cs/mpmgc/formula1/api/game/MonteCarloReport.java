@@ -0,0 +1,158 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.game;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class collects the results of many races of the same players:
+ * the wins of every player and the distribution of the number of rounds of the won races.
+ */
+public class MonteCarloReport {
+
+    private final List<String> playerNames;
+    private final int[] wins;
+    private final int races;
+    private final int unfinishedRaces;
+    private final int[] sortedRounds;
+
+    /**
+     * Creates a report from the results of every race.
+     * @param playerNames the names of the players, in move order.
+     * @param winners for every race, the index of the winner, or -1 if nobody won.
+     * @param rounds for every race, the number of rounds played.
+     */
+    MonteCarloReport(List<String> playerNames, int[] winners, int[] rounds){
+        this.playerNames = playerNames;
+        this.wins = new int[playerNames.size()];
+        this.races = winners.length;
+
+        int[] finishedRounds = new int[races];
+        int finished = 0;
+        for (int race = 0; race < races; race++){
+            if (winners[race] >= 0){
+                wins[winners[race]]++;
+                finishedRounds[finished++] = rounds[race];
+            }
+        }
+        this.unfinishedRaces = races - finished;
+        this.sortedRounds = Arrays.copyOf(finishedRounds, finished);
+        Arrays.sort(sortedRounds);
+    }
+
+    /**
+     * @return the number of races run.
+     */
+    public int getRaces(){
+        return races;
+    }
+
+    /**
+     * @return the number of races that ended without a winner.
+     */
+    public int getUnfinishedRaces(){
+        return unfinishedRaces;
+    }
+
+    /**
+     * @return the names of the players, in move order.
+     */
+    public List<String> getPlayerNames(){
+        return playerNames;
+    }
+
+    /**
+     * Gets the wins of a player.
+     * @param player the index of the player, in move order.
+     * @return the number of races won by the player.
+     */
+    public int getWins(int player){
+        return wins[player];
+    }
+
+    /**
+     * Gets the win rate of a player.
+     * @param player the index of the player, in move order.
+     * @return the fraction of the races won by the player, 0 if no race was run.
+     */
+    public double getWinRate(int player){
+        return races == 0 ? 0 : (double) wins[player] / races;
+    }
+
+    /**
+     * @return the minimum number of rounds of a won race, 0 if no race was won.
+     */
+    public int getMinRounds(){
+        return sortedRounds.length == 0 ? 0 : sortedRounds[0];
+    }
+
+    /**
+     * @return the maximum number of rounds of a won race, 0 if no race was won.
+     */
+    public int getMaxRounds(){
+        return sortedRounds.length == 0 ? 0 : sortedRounds[sortedRounds.length - 1];
+    }
+
+    /**
+     * @return the average number of rounds of the won races, 0 if no race was won.
+     */
+    public double getAverageRounds(){
+        return Arrays.stream(sortedRounds).average().orElse(0);
+    }
+
+    /**
+     * Gets a percentile of the number of rounds of the won races, with the nearest rank method.
+     * @param percentile the percentile, from 0 to 100.
+     * @return the number of rounds within which the given percentage of the won races ended, 0 if no race was won.
+     * @throws IllegalArgumentException if percentile is not between 0 and 100.
+     */
+    public int getRoundsPercentile(double percentile){
+        if (percentile < 0 || percentile > 100){
+            throw new IllegalArgumentException("Percentile must be between 0 and 100.");
+        }
+        if (sortedRounds.length == 0){
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100 * sortedRounds.length);
+        return sortedRounds[Math.max(rank, 1) - 1];
+    }
+
+    @Override
+    public String toString(){
+        StringBuilder report = new StringBuilder();
+        report.append("Races: ").append(races).append(", without winner: ").append(unfinishedRaces).append('\n');
+        for (int player = 0; player < playerNames.size(); player++){
+            report.append(playerNames.get(player)).append(" win rate: ")
+                    .append(String.format("%.3f", getWinRate(player))).append('\n');
+        }
+        report.append("Rounds min/p50/p90/max: ").append(getMinRounds()).append('/')
+                .append(getRoundsPercentile(50)).append('/').append(getRoundsPercentile(90)).append('/')
+                .append(getMaxRounds());
+        return report.toString();
+    }
+
+}
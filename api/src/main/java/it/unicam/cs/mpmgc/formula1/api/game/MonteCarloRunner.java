@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.game;
+
+import it.unicam.cs.mpmgc.formula1.api.players.HumanMovementStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackCache;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.FileIO;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+/**
+ * This class runs many independent races of the same bots on the same track, in parallel on all the cores,
+ * and collects how often every bot wins and how many rounds the races last.
+ * The track and players files are read once, then every race creates its own cars on the same track,
+ * which is only read by the races, and parses the same immutable player lines into its own FileIO,
+ * so the races do not share any mutable state,
+ * and every race gets its own split stream of a single seeded
+ * random generator, so the whole run can be repeated and no generator is shared between threads.
+ */
+public class MonteCarloRunner {
+
+    private final List<String> playerLines;
+    private final iTrack track;
+    private final TrackType trackType;
+    private final List<String> playerNames;
+
+    /**
+     * Creates a runner for the given players and track files, storing the track as a character matrix.
+     * @param players the players file, which must contain bots only.
+     * @param track the track file.
+     * @throws IllegalArgumentException if the players file contains a human player.
+     */
+    public MonteCarloRunner(String players, String track){
+        this(players, track, TrackType.MATRIX);
+    }
+
+    /**
+     * Creates a runner for the given players and track files.
+     * @param players the players file, which must contain bots only.
+     * @param track the track file.
+     * @param trackType the representation of the track of every race.
+     * @throws IllegalArgumentException if the players file contains a human player, or trackType is null.
+     * @throws RuntimeException if a file can't be found or read.
+     */
+    public MonteCarloRunner(String players, String track, TrackType trackType){
+        this.playerLines = List.copyOf(new FileIO().readFile(players));
+        this.trackType = trackType;
+        try {
+            this.track = TrackCache.shared().get(track, trackType);
+        } catch (IOException e){
+            throw new RuntimeException("Error reading the file", e);
+        }
+
+        GameSetup setup = createRace(new SplittableRandom());
+        for (iCar car : setup.getPlayers()){
+            if (car.getMovementStrategy() instanceof HumanMovementStrategy){
+                throw new IllegalArgumentException(car.getName() + ": Only bots can race in the MonteCarloRunner.");
+            }
+        }
+        this.playerNames = setup.getPlayers().stream().map(iCar::getName).toList();
+    }
+
+    /**
+     * Runs the races on the common ForkJoin pool, which uses all the available cores.
+     * @param races the number of races to run.
+     * @param maxRounds the maximum number of rounds of every race, then the race ends without winner.
+     * @param seed the seed all the races random generators are split from.
+     * @return the report of the races.
+     */
+    public MonteCarloReport run(int races, int maxRounds, long seed){
+        return run(races, maxRounds, seed, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Runs the races on the given ForkJoin pool.
+     * @param races the number of races to run.
+     * @param maxRounds the maximum number of rounds of every race, then the race ends without winner.
+     * @param seed the seed all the races random generators are split from.
+     * @param pool the pool where the races run.
+     * @return the report of the races.
+     * @throws IllegalArgumentException if races or maxRounds are negative, or pool is null.
+     */
+    public MonteCarloReport run(int races, int maxRounds, long seed, ForkJoinPool pool){
+        if (races < 0 || maxRounds < 0 || pool == null){
+            throw new IllegalArgumentException("Races and max rounds must be positive, and pool can not be null.");
+        }
+        SplittableRandom[] randoms = new SplittableRandom[races];
+        SplittableRandom root = new SplittableRandom(seed);
+        for (int race = 0; race < races; race++){
+            randoms[race] = root.split();
+        }
+
+        int[] winners = new int[races];
+        int[] rounds = new int[races];
+        pool.submit(() -> IntStream.range(0, races).parallel().forEach(race -> {
+            GameSetup setup = createRace(randoms[race]);
+            RaceEngine engine = new RaceEngine(setup);
+            iCar winner = engine.run(maxRounds);
+            winners[race] = setup.getPlayers().indexOf(winner);
+            rounds[race] = engine.getRound();
+        })).join();
+
+        return new MonteCarloReport(playerNames, winners, rounds);
+    }
+
+    /**
+     * @return the names of the players, in move order.
+     */
+    public List<String> getPlayerNames(){
+        return playerNames;
+    }
+
+    /**
+     * Creates the setup of a race, with its own FileIO, since a FileIO can not be shared between threads.
+     */
+    private GameSetup createRace(SplittableRandom random){
+        FileIO fileIO = new FileIO();
+        fileIO.parsePlayers(playerLines);
+        GameSetup setup = new GameSetup(trackType, fileIO, random);
+        setup.initializeTrack(track);
+        setup.initializePlayers();
+        return setup;
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.game;
+
+import it.unicam.cs.mpmgc.formula1.api.players.HumanMovementStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.OccupancyIndex;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class runs a race of bots only, without any console output or user input.
+ * Cars move through the packed position methods, so a race does not create Position objects.
+ * The events of the race are sent to the registered listeners, so it can be used for batch simulations.
+ * Every car occupies its cell in the occupancy index of the race track overlay,
+ * so the strategies created on that overlay never land a car on another one.
+ */
+public class RaceEngine implements iGamePlay {
+
+    private static final iRaceListener[] NO_LISTENERS = new iRaceListener[0];
+
+    private final TrackOverlay track;
+    private final OccupancyIndex occupancy;
+    private final iCar[] cars;
+    private final char[] markers;
+    private final RaceState state;
+    private iRaceListener[] listeners;
+    private boolean gameFinished;
+    private iCar winner;
+    private int round;
+
+    /**
+     * Creates a race engine for the track and players of a GameSetup.
+     * @param setup the setup of track and players ready to be played on.
+     * @throws IllegalArgumentException if setup is null, or a player is not a bot.
+     */
+    public RaceEngine(GameSetup setup){
+        this(setup == null ? null : setup.getOverlay(), setup == null ? null : setup.getPlayers());
+    }
+
+    /**
+     * Creates a race engine for the given track and cars, the cars move in the order of the list.
+     * If the track is not an overlay, the race gets its own overlay over it,
+     * but the cars only avoid each other if their strategies move on the same overlay of the race.
+     * @param track the track where the race takes place.
+     * @param cars the cars of the race, already placed on their starting positions.
+     * @throws IllegalArgumentException if track or cars are null, or a car is not a bot.
+     */
+    public RaceEngine(iTrack track, List<? extends iCar> cars){
+        if (track == null || cars == null){
+            throw new IllegalArgumentException("Track and cars can not be null.");
+        }
+        for (iCar car : cars){
+            if (car.getMovementStrategy() instanceof HumanMovementStrategy){
+                throw new IllegalArgumentException(car.getName() + ": Only bots can race in the RaceEngine.");
+            }
+        }
+        this.track = track instanceof TrackOverlay overlay ? overlay : new TrackOverlay(track);
+        this.occupancy = this.track.getMarkers();
+        this.cars = cars.toArray(new iCar[0]);
+        this.markers = new char[this.cars.length];
+        for (int car = 0; car < this.cars.length; car++){
+            markers[car] = this.cars[car].getName().toUpperCase().charAt(0);
+            occupancy.occupy(this.cars[car].getPackedPosition(), markers[car]);
+        }
+        this.state = null;
+        this.listeners = NO_LISTENERS;
+        this.gameFinished = false;
+        this.round = 0;
+    }
+
+    /**
+     * Creates a race engine for the cars of a race state, the cars move in the order they were added,
+     * by the step loop of the state, and the listeners get the views of the cars.
+     * @param state the state of the cars, already placed on their starting positions.
+     * @return the race engine of the state.
+     * @throws IllegalArgumentException if state is null.
+     */
+    public static RaceEngine forState(RaceState state){
+        if (state == null){
+            throw new IllegalArgumentException("Race state can not be null.");
+        }
+        return new RaceEngine(state);
+    }
+
+    private RaceEngine(RaceState state){
+        this.track = state.getTrack();
+        this.occupancy = track.getMarkers();
+        this.cars = state.getCars().toArray(new iCar[0]);
+        this.markers = null;
+        this.state = state;
+        this.listeners = NO_LISTENERS;
+        this.gameFinished = false;
+        this.round = 0;
+    }
+
+    /**
+     * Registers a listener to the events of the race.
+     * @param listener the listener to be added.
+     * @throws IllegalArgumentException if listener is null.
+     */
+    public void addListener(iRaceListener listener){
+        if (listener == null){
+            throw new IllegalArgumentException("Listener can not be null.");
+        }
+        listeners = Arrays.copyOf(listeners, listeners.length + 1);
+        listeners[listeners.length - 1] = listener;
+    }
+
+    /**
+     * Runs the race until a car reaches the finish line.
+     * If no bot can reach it, this method never returns, so run(int) should be preferred.
+     */
+    @Override
+    public void startGame(){
+        while (!gameFinished){
+            playRound();
+        }
+    }
+
+    /**
+     * Runs the race until a car reaches the finish line, or the maximum number of rounds is played.
+     * @param maxRounds the maximum number of rounds to be played.
+     * @return the winner of the race, null if nobody won within maxRounds.
+     */
+    public iCar run(int maxRounds){
+        while (!gameFinished && round < maxRounds){
+            playRound();
+        }
+        return winner;
+    }
+
+    /**
+     * Plays one round of the race, every car does its move in order,
+     * and the round stops as soon as a car wins.
+     * @return true if the race is finished, false otherwise.
+     */
+    public boolean playRound(){
+        if (gameFinished){
+            return true;
+        }
+        round++;
+        for (int car = 0; car < cars.length; car++){
+            moveCar(car);
+            if (checkWinner(cars[car])){
+                return true;
+            }
+        }
+        for (iRaceListener listener : listeners){
+            listener.onRoundEnd(round);
+        }
+        return false;
+    }
+
+    /**
+     * Ends the race, so the running loops stop.
+     */
+    @Override
+    public void endGame(){
+        this.gameFinished = true;
+    }
+
+    /**
+     * Moves the car using its own strategy, then notifies the listeners.
+     * The car leaves its cell before moving, so it does not block itself, then it occupies the new one.
+     * @param player the car which is going to do the move.
+     * @throws IllegalArgumentException if the car is not in this race.
+     */
+    @Override
+    public void executeTurn(iCar player){
+        for (int car = 0; car < cars.length; car++){
+            if (cars[car] == player){
+                moveCar(car);
+                return;
+            }
+        }
+        throw new IllegalArgumentException(player.getName() + ": The car is not in this race.");
+    }
+
+    private void moveCar(int car){
+        iCar player = cars[car];
+        if (state != null){
+            state.step(car);
+        } else {
+            occupancy.release(player.getPackedPosition());
+            player.getMovementStrategy().move(player.getPackedPosition());
+            occupancy.occupy(player.getPackedPosition(), markers[car]);
+        }
+        for (iRaceListener listener : listeners){
+            listener.onTurn(player, round);
+        }
+    }
+
+    /**
+     * Checks if the car is on the finish line, in that case it ends the race and notifies the listeners.
+     * @param player the car to be checked.
+     * @return true if the car has won, false otherwise.
+     */
+    @Override
+    public boolean checkWinner(iCar player){
+        int position = player.getPackedPosition();
+        if (!track.isFinish(Position.rowOf(position), Position.columnOf(position))){
+            return false;
+        }
+        winner = player;
+        endGame();
+        for (iRaceListener listener : listeners){
+            listener.onWinner(player, round);
+        }
+        return true;
+    }
+
+    /**
+     * @return true if a car has won, or the race was ended.
+     */
+    public boolean isFinished(){
+        return gameFinished;
+    }
+
+    /**
+     * @return the winner of the race, null if nobody has won yet.
+     */
+    public iCar getWinner(){
+        return winner;
+    }
+
+    /**
+     * @return the number of rounds played, including the current one.
+     */
+    public int getRound(){
+        return round;
+    }
+
+    /**
+     * @return the track overlay of the race, where every car occupies its cell.
+     */
+    public TrackOverlay getTrack(){
+        return track;
+    }
+
+    /**
+     * @return the cars of the race, in move order.
+     */
+    public List<iCar> getCars(){
+        return List.of(cars);
+    }
+
+}
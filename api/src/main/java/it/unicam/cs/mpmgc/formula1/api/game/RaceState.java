@@ -0,0 +1,543 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.game;
+
+import it.unicam.cs.mpmgc.formula1.api.players.Directions;
+import it.unicam.cs.mpmgc.formula1.api.players.HardBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.OptimalBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.players.iMovementStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.OccupancyIndex;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * This class holds the state of the bots of a race in parallel arrays, one entry per car,
+ * so a race with hundreds of cars does not need a Car and a strategy object for every car.
+ * EASY, HARD and DISTANCE bots are moved by the step loop of this class, with the same rules of their strategies,
+ * while OPTIMAL bots keep their own strategy, which moves the car through its view.
+ * Every car is also available as an iCar view over the arrays, created the first time it is requested.
+ * The cars occupy their cells in the occupancy index of the race track overlay, so they never land on each other.
+ */
+public final class RaceState {
+
+    private static final byte EASY = 0;
+    private static final byte HARD = 1;
+    private static final byte DISTANCE = 2;
+    private static final byte STRATEGY = 3;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int START_ROW = 1;
+    private static final int START_COLUMN = 1;
+    private static final int MAX_DISTANCE_SPEED = 2;
+
+    // STEPS OF EVERY DIRECTION, AND NEXT DIRECTION OF THE EASY AND HARD BOTS, BY DIRECTION ORDINAL
+    private static final Directions[] DIRECTIONS = Directions.values();
+    private static final int[] ROW_STEP = new int[DIRECTIONS.length];
+    private static final int[] COLUMN_STEP = new int[DIRECTIONS.length];
+    private static final byte[] NEXT_DIRECTION = new byte[DIRECTIONS.length];
+
+    static {
+        for (Directions direction : DIRECTIONS){
+            Directions next = Directions.RIGHT;
+            switch (direction){
+                case UP     : ROW_STEP[direction.ordinal()] = -1;    next = Directions.RIGHT; break;
+                case DOWN   : ROW_STEP[direction.ordinal()] = 1;     next = Directions.LEFT;  break;
+                case LEFT   : COLUMN_STEP[direction.ordinal()] = -1; next = Directions.UP;    break;
+                case RIGHT  : COLUMN_STEP[direction.ordinal()] = 1;  next = Directions.DOWN;  break;
+            }
+            NEXT_DIRECTION[direction.ordinal()] = (byte) next.ordinal();
+        }
+    }
+
+    private final TrackOverlay track;
+    private final iTrack base;
+    private final OccupancyIndex occupancy;
+    private final DistanceField distanceField;
+    private final RandomGenerator random;
+
+    private int size;
+    private int nextStartRow;
+    private int nextStartColumn;
+    private String[] names;
+    private byte[] types;
+    private int[] rows;
+    private int[] columns;
+    private int[] speeds;
+    private byte[] directions;
+    private char[] markers;
+    private iMovementStrategy[] strategies;
+    private CarView[] views;
+
+    /**
+     * Creates an empty race state on a track.
+     * If the track is not an overlay, the race gets its own overlay over it.
+     * @param track the track where the race takes place.
+     * @param random the random generator of the HARD bots speed, which should not be shared with other threads.
+     * @throws IllegalArgumentException if track or random are null.
+     */
+    public RaceState(iTrack track, RandomGenerator random){
+        if (track == null || random == null){
+            throw new IllegalArgumentException("Track and random generator can not be null.");
+        }
+        this.track = track instanceof TrackOverlay overlay ? overlay : new TrackOverlay(track);
+        this.base = this.track.getBase();
+        this.occupancy = this.track.getMarkers();
+        this.distanceField = this.track.getDistanceField();
+        this.random = random;
+        this.nextStartRow = START_ROW;
+        this.nextStartColumn = START_COLUMN;
+        this.names = new String[INITIAL_CAPACITY];
+        this.types = new byte[INITIAL_CAPACITY];
+        this.rows = new int[INITIAL_CAPACITY];
+        this.columns = new int[INITIAL_CAPACITY];
+        this.speeds = new int[INITIAL_CAPACITY];
+        this.directions = new byte[INITIAL_CAPACITY];
+        this.markers = new char[INITIAL_CAPACITY];
+        this.strategies = new iMovementStrategy[INITIAL_CAPACITY];
+        this.views = new CarView[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Adds a bot on the next free starting cell.
+     * The starting cells are filled down the first column from the first row, as GameSetup does,
+     * until a wall, then down the next columns in the same way, skipping the finish line and the occupied cells,
+     * so the cars fill a starting grid from the top left corner.
+     * @param type the type of the bot, as in the players files: EasyBot, HardBot, DistanceBot or OptimalBot.
+     * @param name the name of the car.
+     * @return the index of the new car.
+     * @throws IllegalArgumentException if the type is not a bot type, or the name is empty.
+     * @throws IllegalStateException if the track has no free starting cell.
+     */
+    public int addCar(String type, String name){
+        while (nextStartColumn < track.getColumns()){
+            int row = nextStartRow;
+            int column = nextStartColumn;
+            if (track.getBase().checkValidMove(row, column)){
+                nextStartRow++;
+                if (!track.isMarked(row, column) && !track.isFinish(row, column)){
+                    return addCar(type, name, row, column);
+                }
+            } else {
+                nextStartRow = START_ROW;
+                nextStartColumn++;
+            }
+        }
+        throw new IllegalStateException(name + ": No free starting cell left on the track.");
+    }
+
+    /**
+     * Adds a bot on the given cell, with speed 1 towards right, as the bot strategies.
+     * @param type the type of the bot, as in the players files: EasyBot, HardBot, DistanceBot or OptimalBot.
+     * @param name the name of the car.
+     * @param row the starting row of the car.
+     * @param column the starting column of the car.
+     * @return the index of the new car.
+     * @throws IllegalArgumentException if the type is not a bot type, the name is empty,
+     * or the cell is not a free valid cell.
+     */
+    public int addCar(String type, String name, int row, int column){
+        if (name == null || name.isEmpty()){
+            throw new IllegalArgumentException("Car name can not be empty.");
+        }
+        byte carType;
+        switch (String.valueOf(type)) {
+            case "EasyBot"     : carType = EASY;     break;
+            case "HardBot"     : carType = HARD;     break;
+            case "DistanceBot" : carType = DISTANCE; break;
+            case "OptimalBot"  : carType = STRATEGY; break;
+            default            : throw new IllegalArgumentException(type + ": Type is not a Bot.");
+        }
+        if (!track.checkValidMove(row, column)){
+            throw new IllegalArgumentException(name + ": Starting cell is not free: " + row + "," + column);
+        }
+        if (size == names.length){
+            grow();
+        }
+        int car = size++;
+        names[car] = name;
+        types[car] = carType;
+        rows[car] = row;
+        columns[car] = column;
+        speeds[car] = 1;
+        directions[car] = (byte) Directions.RIGHT.ordinal();
+        markers[car] = name.toUpperCase().charAt(0);
+        occupancy.occupy(Position.pack(row, column), markers[car]);
+        if (carType == STRATEGY){
+            strategies[car] = new OptimalBotStrategy(track);
+            strategies[car].setCarOwner(getCar(car));
+        }
+        return car;
+    }
+
+    /**
+     * Moves every car once, in order, and stops as soon as a car reaches the finish line.
+     * Every move depends on the cells left free by the cars before, so the cars are moved one after the other.
+     * @return the index of the car which reached the finish line, -1 if no car did.
+     */
+    public int stepAll(){
+        for (int car = 0; car < size; car++){
+            step(car);
+            if (track.isFinish(rows[car], columns[car])){
+                return car;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Moves a car with the rules of its bot type.
+     * The car leaves its cell before moving, so it does not block itself, then it occupies the new one.
+     * @param car the index of the car.
+     * @return the new position of the car, packed by Position.pack().
+     * @throws IndexOutOfBoundsException if there is no car with that index.
+     */
+    public int step(int car){
+        Objects.checkIndex(car, size);
+        int from = Position.pack(rows[car], columns[car]);
+        occupancy.release(from);
+        int to;
+        switch (types[car]){
+            case EASY     : to = stepEasy(car, from); break;
+            case HARD     : to = stepHard(car, from); break;
+            case DISTANCE : to = stepDistance(car, from); break;
+            default       : strategies[car].move(from); to = Position.pack(rows[car], columns[car]); break;
+        }
+        rows[car] = Position.rowOf(to);
+        columns[car] = Position.columnOf(to);
+        occupancy.occupy(to, markers[car]);
+        return to;
+    }
+
+    /**
+     * Same rules of the EASY bot strategy: speed 1, and the direction changes when the move is not valid.
+     */
+    private int stepEasy(int car, int from){
+        int to = nextPosition(car, from);
+        if (!canMove(from, to)){
+            nextDirection(car);
+            return from;
+        }
+        return to;
+    }
+
+    /**
+     * Same rules of the HARD bot strategy: the direction changes until the move is valid,
+     * for at most HardBotStrategy.MAX_ATTEMPTS tries.
+     */
+    private int stepHard(int car, int from){
+        int to = nextPosition(car, from);
+        for (int attempt = 1; !canMove(from, to); attempt++){
+            if (attempt == HardBotStrategy.MAX_ATTEMPTS){
+                return from;
+            }
+            nextDirection(car);
+            to = nextPosition(car, from);
+        }
+        return to;
+    }
+
+    /**
+     * Same rules of the DISTANCE bot strategy: the valid move landing nearest to the finish line.
+     */
+    private int stepDistance(int car, int from){
+        nextDirection(car);
+        int to = nextPosition(car, from);
+        return canMove(from, to) ? to : from;
+    }
+
+    /**
+     * Chooses the next direction of a car: EASY and HARD bots cycle through the directions,
+     * DISTANCE bots choose the direction and speed landing on the lowest distance,
+     * preferring the higher speed on equal distances.
+     */
+    private void nextDirection(int car){
+        if (types[car] != DISTANCE){
+            directions[car] = NEXT_DIRECTION[directions[car]];
+            return;
+        }
+        int from = Position.pack(rows[car], columns[car]);
+        int bestDistance = DistanceField.UNREACHABLE;
+        for (int speed = MAX_DISTANCE_SPEED; speed >= 1; speed--){
+            for (int direction = 0; direction < DIRECTIONS.length; direction++){
+                int row = rows[car] + ROW_STEP[direction] * speed;
+                int column = columns[car] + COLUMN_STEP[direction] * speed;
+                int distance = distanceField.distanceAt(row, column);
+                if (distance < bestDistance && canMove(from, Position.pack(row, column))){
+                    bestDistance = distance;
+                    directions[car] = (byte) direction;
+                    speeds[car] = speed;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sets the speed of a car: always 1 for EASY bots, 1 or 2 at random for HARD bots,
+     * between 1 and 2 for DISTANCE bots.
+     */
+    private void nextSpeed(int car){
+        switch (types[car]){
+            case EASY     : speeds[car] = 1; break;
+            case HARD     : speeds[car] = 1 + random.nextInt(2); break;
+            case DISTANCE : speeds[car] = Math.max(1, Math.min(speeds[car], MAX_DISTANCE_SPEED)); break;
+            default       : break;
+        }
+    }
+
+    /**
+     * Sets the speed of a car, then calculates its next position with its direction.
+     */
+    private int nextPosition(int car, int from){
+        nextSpeed(car);
+        int direction = directions[car];
+        return Position.pack(Position.rowOf(from) + ROW_STEP[direction] * speeds[car],
+                Position.columnOf(from) + COLUMN_STEP[direction] * speeds[car]);
+    }
+
+    /**
+     * Same check of the track overlay, reading the occupancy index and the base track directly.
+     */
+    private boolean canMove(int from, int to){
+        return !occupancy.isOccupied(to) && base.checkValidPath(from, to);
+    }
+
+    private void grow(){
+        int capacity = names.length * 2;
+        names = Arrays.copyOf(names, capacity);
+        types = Arrays.copyOf(types, capacity);
+        rows = Arrays.copyOf(rows, capacity);
+        columns = Arrays.copyOf(columns, capacity);
+        speeds = Arrays.copyOf(speeds, capacity);
+        directions = Arrays.copyOf(directions, capacity);
+        markers = Arrays.copyOf(markers, capacity);
+        strategies = Arrays.copyOf(strategies, capacity);
+        views = Arrays.copyOf(views, capacity);
+    }
+
+    /**
+     * @return the number of cars of the race.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @return the track overlay of the race, where every car occupies its cell.
+     */
+    public TrackOverlay getTrack(){
+        return track;
+    }
+
+    /**
+     * @param car the index of the car.
+     * @return the row of the car.
+     */
+    public int getRow(int car){
+        return rows[Objects.checkIndex(car, size)];
+    }
+
+    /**
+     * @param car the index of the car.
+     * @return the column of the car.
+     */
+    public int getColumn(int car){
+        return columns[Objects.checkIndex(car, size)];
+    }
+
+    /**
+     * Gets the view of a car, which reads and writes the arrays of this state.
+     * @param car the index of the car.
+     * @return the view of the car, always the same instance.
+     * @throws IndexOutOfBoundsException if there is no car with that index.
+     */
+    public iCar getCar(int car){
+        Objects.checkIndex(car, size);
+        if (views[car] == null){
+            views[car] = new CarView(car);
+        }
+        return views[car];
+    }
+
+    /**
+     * @return the views of the cars, in move order.
+     */
+    public List<iCar> getCars(){
+        return new AbstractList<>() {
+            @Override
+            public iCar get(int car) { return getCar(car); }
+
+            @Override
+            public int size() { return size; }
+        };
+    }
+
+    /**
+     * This class is the iCar view of a car of the race state.
+     */
+    private final class CarView implements iCar {
+
+        private final int car;
+        private iMovementStrategy strategy;
+
+        private CarView(int car){
+            this.car = car;
+        }
+
+        @Override
+        public String getName() {
+            return names[car];
+        }
+
+        @Override
+        public Position getCurrentPosition() {
+            return track.positionAt(rows[car], columns[car]);
+        }
+
+        @Override
+        public int getPackedPosition() {
+            return Position.pack(rows[car], columns[car]);
+        }
+
+        /**
+         * @return the strategy of an OPTIMAL bot, or a strategy view over the state of the other bots.
+         */
+        @Override
+        public iMovementStrategy getMovementStrategy() {
+            if (strategies[car] != null){
+                return strategies[car];
+            }
+            if (strategy == null){
+                strategy = new StrategyView(car);
+            }
+            return strategy;
+        }
+
+        @Override
+        public void updatePosition(Position newPosition) {
+            updatePosition(newPosition.getRow(), newPosition.getColumn());
+        }
+
+        /**
+         * The car leaves its cell, and occupies the new one.
+         */
+        @Override
+        public void updatePosition(int row, int column) {
+            occupancy.release(getPackedPosition());
+            rows[car] = row;
+            columns[car] = column;
+            occupancy.occupy(Position.pack(row, column), markers[car]);
+        }
+    }
+
+    /**
+     * This class is the iMovementStrategy view of an EASY, HARD or DISTANCE bot of the race state.
+     * Its owner is the view of the same car, unless another car takes it with setCarOwner(),
+     * then that car follows the moves of the car of the race state.
+     */
+    private final class StrategyView implements iMovementStrategy {
+
+        private final int car;
+        private iCar owner;
+
+        private StrategyView(int car){
+            this.car = car;
+        }
+
+        /**
+         * Moves the car from the given position with the step of the race state.
+         * @param currentPosition the current position of the car, packed by Position.pack().
+         */
+        @Override
+        public void move(int currentPosition) {
+            if (currentPosition != Position.pack(rows[car], columns[car])){
+                getCar(car).updatePosition(Position.rowOf(currentPosition), Position.columnOf(currentPosition));
+            }
+            step(car);
+            if (owner != null){
+                owner.updatePosition(rows[car], columns[car]);
+            }
+        }
+
+        @Override
+        public void setNextDirection() {
+            nextDirection(car);
+        }
+
+        @Override
+        public void setSpeed() {
+            nextSpeed(car);
+        }
+
+        @Override
+        public Position calculateNextPosition(Position currentPosition) {
+            int newPos = calculateNextPosition(currentPosition.pack());
+            return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
+        }
+
+        @Override
+        public int calculateNextPosition(int currentPosition) {
+            return nextPosition(car, currentPosition);
+        }
+
+        @Override
+        public int getSpeed() {
+            return speeds[car];
+        }
+
+        @Override
+        public Directions getNextDirection() {
+            return DIRECTIONS[directions[car]];
+        }
+
+        @Override
+        public iTrack getTrack() {
+            return track;
+        }
+
+        /**
+         * The car of the race state keeps being the one moved by this strategy,
+         * the new owner is moved to the cell of that car after every move.
+         * @param car the car to be associated to the movement strategy.
+         * @throws IllegalArgumentException if car is null.
+         */
+        @Override
+        public void setCarOwner(iCar car) {
+            if (car == null){
+                throw new IllegalArgumentException("Car owner can not be null.");
+            }
+            this.owner = car == getCar(this.car) ? null : car;
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.game;
+
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+
+/**
+ * This interface is used to receive the events of a race run by the RaceEngine.
+ * Every method does nothing by default, so a listener only implements the events it needs.
+ */
+public interface iRaceListener {
+
+    /**
+     * Called after a car has done its move.
+     * @param car the car which moved.
+     * @param round the current round, starting from 1.
+     */
+    default void onTurn(iCar car, int round){}
+
+    /**
+     * Called after every car has done its move in a round.
+     * @param round the round which ended, starting from 1.
+     */
+    default void onRoundEnd(int round){}
+
+    /**
+     * Called when a car reaches the finish line, the race ends after this event.
+     * @param winner the car which won the race.
+     * @param round the round when the car won.
+     */
+    default void onWinner(iCar winner, int round){}
+
+}
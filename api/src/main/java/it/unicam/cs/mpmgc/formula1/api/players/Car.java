@@ -25,17 +25,21 @@
 
 package it.unicam.cs.mpmgc.formula1.api.players;
 
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
 /**
  * This class represents a Car object.
  * It implements the iCar interface to provide the necessary behaviour of a car.
+ * Its positions are the shared positions of the track of its strategy, so moving does not allocate them.
  */
 public class Car implements iCar {
 
     private final String name;
+    private int packedPosition;
     private Position currentPosition;
     private final iMovementStrategy movementStrategy;
+    private final iTrack track;
 
     /**
      * creates a car instance with specified name and movement strategy.
@@ -44,8 +48,10 @@ public class Car implements iCar {
      */
     public Car(String name, iMovementStrategy movementStrategy){
         this.name = name;
-        this.currentPosition = new Position(0,0);
         this.movementStrategy = movementStrategy;
+        this.track = movementStrategy.getTrack();
+        this.packedPosition = Position.pack(0,0);
+        this.currentPosition = positionAt(0,0);
         this.movementStrategy.setCarOwner(this);
     }
 
@@ -54,21 +60,50 @@ public class Car implements iCar {
         return name;
     }
 
+    /**
+     * If the car was moved with packed coordinates, the Position object is only looked up when requested,
+     * in the position table of the track.
+     * @return car current position.
+     */
     @Override
     public Position getCurrentPosition() {
+        if (currentPosition == null){
+            currentPosition = positionAt(Position.rowOf(packedPosition), Position.columnOf(packedPosition));
+        }
         return currentPosition;
     }
 
+    @Override
+    public int getPackedPosition() {
+        return packedPosition;
+    }
+
     @Override
     public iMovementStrategy getMovementStrategy() {
         return movementStrategy;
     }
 
+    /**
+     * Positions are immutable, so the new position is kept as it is, without copying it.
+     * @param newPosition the new position of the car.
+     */
     @Override
     public void updatePosition(Position newPosition) {
-        int row = newPosition.getRow();
-        int column = newPosition.getColumn();
-        this.currentPosition = new Position(row, column);
+        this.packedPosition = newPosition.pack();
+        this.currentPosition = newPosition;
+    }
+
+    @Override
+    public void updatePosition(int row, int column) {
+        this.packedPosition = Position.pack(row, column);
+        this.currentPosition = null;
+    }
+
+    /**
+     * @return the shared position of the track, or of the small positions table if the strategy has no track.
+     */
+    private Position positionAt(int row, int column){
+        return track == null ? Position.of(row, column) : track.positionAt(row, column);
     }
 
 }
@@ -0,0 +1,152 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.players;
+
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+/**
+ * This class implements a movement strategy for a DISTANCE bot controlled car.
+ * The bot follows the distance field of the track: every turn it tries every direction
+ * with speed 2 and 1, and it moves to the valid position which is nearest to the finish line.
+ * It moves with speed equal to 1 or 2, like the HARD bot, and the cost of a move does not depend on the track size.
+ */
+public class DistanceBotStrategy implements iMovementStrategy {
+
+    private static final int MAX_SPEED = 2;
+    private static final Directions[] DIRECTIONS = Directions.values();
+
+    private Directions nextDirection;
+    private int speed;
+    private final iTrack track;
+    private final DistanceField distanceField;
+    private int currentPosition;
+    private iCar botCar;
+
+    /**
+     * Creates a new instance of the bot car associated with the track.
+     * It sets the starting speed to 1, and starting direction to Right.
+     * @param track the track on which the car moves.
+     */
+    public DistanceBotStrategy(iTrack track){
+        this.nextDirection = Directions.RIGHT;
+        this.speed = 1;
+        this.track = track;
+        this.distanceField = track.getDistanceField();
+    }
+
+    /**
+     * The DISTANCE Bot chooses the direction and speed which bring it nearest to the finish line.
+     * If there is no valid move at all, it does not move this turn.
+     * @param currentPosition the current position of the car, packed by Position.pack().
+     */
+    @Override
+    public void move(int currentPosition) {
+        this.currentPosition = currentPosition;
+        setNextDirection();
+        int newPos = calculateNextPosition(currentPosition);
+
+        if (!track.checkValidPath(currentPosition, newPos)){
+            return;
+        }
+        botCar.updatePosition(Position.rowOf(newPos), Position.columnOf(newPos));
+    }
+
+    /**
+     * Bot movement logic: among all the valid moves from the current position,
+     * it picks the one landing on the lowest distance, preferring the higher speed on equal distances.
+     */
+    @Override
+    public void setNextDirection() {
+        int bestDistance = DistanceField.UNREACHABLE;
+        for (int candidateSpeed = MAX_SPEED; candidateSpeed >= 1; candidateSpeed--){
+            for (Directions direction : DIRECTIONS){
+                int candidate = nextPosition(currentPosition, direction, candidateSpeed);
+                int distance = distanceField.distanceAt(Position.rowOf(candidate), Position.columnOf(candidate));
+                if (distance < bestDistance && track.checkValidPath(currentPosition, candidate)){
+                    bestDistance = distance;
+                    nextDirection = direction;
+                    speed = candidateSpeed;
+                }
+            }
+        }
+    }
+
+    /**
+     * For DISTANCE Bot, speed is chosen together with the direction, so it is only kept between 1 and 2.
+     */
+    @Override
+    public void setSpeed() {
+        speed = Math.max(1, Math.min(speed, MAX_SPEED));
+    }
+
+    @Override
+    public int calculateNextPosition(int currentPos){
+        setSpeed();
+        return nextPosition(currentPos, nextDirection, speed);
+    }
+
+    @Override
+    public Position calculateNextPosition(Position currentPos){
+        int newPos = calculateNextPosition(currentPos.pack());
+        return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
+    }
+
+    @Override
+    public int getSpeed(){
+        return speed;
+    }
+
+    @Override
+    public Directions getNextDirection(){
+        return nextDirection;
+    }
+
+    @Override
+    public iTrack getTrack(){
+        return track;
+    }
+
+    @Override
+    public void setCarOwner(iCar car){
+        this.botCar = car;
+    }
+
+    private static int nextPosition(int currentPos, Directions direction, int speed){
+        int newRow = Position.rowOf(currentPos);
+        int newColumn = Position.columnOf(currentPos);
+
+        switch (direction){
+            case UP     : newRow -= speed; break;
+            case DOWN   : newRow += speed; break;
+            case LEFT   : newColumn -= speed; break;
+            case RIGHT  : newColumn += speed; break;
+        }
+        return Position.pack(newRow, newColumn);
+    }
+
+}
@@ -25,7 +25,7 @@
 
 package it.unicam.cs.mpmgc.formula1.api.players;
 
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
 /**
@@ -38,7 +38,7 @@ public class EasyBotStrategy implements iMovementStrategy{
 
     private Directions nextDirection;
     private int speed;
-    private final Track track;
+    private final iTrack track;
     private iCar botCar;
 
     /**
@@ -46,7 +46,7 @@ public class EasyBotStrategy implements iMovementStrategy{
      * It sets the starting speed to 1, and starting direction to Right.
      * @param track the track on which the car moves.
      */
-    public EasyBotStrategy(Track track){
+    public EasyBotStrategy(iTrack track){
         this.nextDirection = Directions.RIGHT;
         this.speed = 1;
         this.track = track;
@@ -55,17 +55,17 @@ public class EasyBotStrategy implements iMovementStrategy{
     /**
      * The EASY Bot calculates the next position, and check if it is valid.
      * If it is not valid, it does not move this turn, but calculates the direction of the next one.
-     * @param currentPosition the current position of the car.
+     * @param currentPosition the current position of the car, packed by Position.pack().
      */
     @Override
-    public void move(Position currentPosition) {
-        Position newPos = calculateNextPosition(currentPosition);
+    public void move(int currentPosition) {
+        int newPos = calculateNextPosition(currentPosition);
 
-        if (!track.checkValidMove(newPos)){
+        if (!track.checkValidPath(currentPosition, newPos)){
             setNextDirection();
             return;
         }
-        botCar.updatePosition(newPos);
+        botCar.updatePosition(Position.rowOf(newPos), Position.columnOf(newPos));
     }
 
     /**
@@ -90,11 +90,11 @@ public class EasyBotStrategy implements iMovementStrategy{
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPos){
+    public int calculateNextPosition(int currentPos){
         setSpeed();
 
-        int newRow = currentPos.getRow();
-        int newColumn = currentPos.getColumn();
+        int newRow = Position.rowOf(currentPos);
+        int newColumn = Position.columnOf(currentPos);
 
         switch (nextDirection){
             case UP     : newRow -= speed; break;
@@ -102,7 +102,13 @@ public class EasyBotStrategy implements iMovementStrategy{
             case LEFT   : newColumn -= speed; break;
             case RIGHT  : newColumn += speed; break;
         }
-        return new Position(newRow, newColumn);
+        return Position.pack(newRow, newColumn);
+    }
+
+    @Override
+    public Position calculateNextPosition(Position currentPos){
+        int newPos = calculateNextPosition(currentPos.pack());
+        return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
     }
 
     @Override
@@ -115,6 +121,11 @@ public class EasyBotStrategy implements iMovementStrategy{
         return nextDirection;
     }
 
+    @Override
+    public iTrack getTrack(){
+        return track;
+    }
+
     @Override
     public void setCarOwner(iCar car){
         this.botCar = car;
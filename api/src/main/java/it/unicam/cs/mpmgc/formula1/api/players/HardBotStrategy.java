@@ -25,10 +25,11 @@
 
 package it.unicam.cs.mpmgc.formula1.api.players;
 
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * This class implements a movement strategy for an HARD bot controlled car.
@@ -39,36 +40,64 @@ import java.util.Random;
 
 public class HardBotStrategy implements iMovementStrategy {
 
+    /**
+     * The maximum number of moves tried in a turn, then the bot does not move,
+     * so a bot boxed in by walls and other cars does not try forever.
+     */
+    public static final int MAX_ATTEMPTS = 64;
+
     private Directions nextDirection;
     private int speed;
-    private final Track track;
+    private final iTrack track;
+    private final RandomGenerator random;
     private iCar botCar;
 
     /**
      * Creates a new instance of the bot car associated with the track.
      * It sets the starting speed to 1, and starting direction to Right.
+     * The speed is chosen by a random generator owned by this bot, with a random seed.
      * @param track the track on which the car moves.
      */
-    public HardBotStrategy(Track track){
+    public HardBotStrategy(iTrack track){
+        this(track, new SplittableRandom());
+    }
+
+    /**
+     * Creates a new instance of the bot car associated with the track,
+     * which chooses its speed with the given random generator, so a seeded generator makes its moves repeatable.
+     * The generator should not be shared with other threads.
+     * @param track the track on which the car moves.
+     * @param random the random generator used for the speed.
+     * @throws IllegalArgumentException if random is null.
+     */
+    public HardBotStrategy(iTrack track, RandomGenerator random){
+        if (random == null){
+            throw new IllegalArgumentException("Random generator can not be null.");
+        }
         this.nextDirection = Directions.RIGHT;
         this.speed = 1;
         this.track = track;
+        this.random = random;
     }
 
     /**
-     * The HARD Bot calculates the next position, and check if it is valid.
-     * If it is not valid, it keeps trying to calculate the next direction until it finds a valid move.
-     * @param currentPosition the current position of the car.
+     * The HARD Bot calculates the next position, and check if it is valid, and the path to it is free.
+     * If it is not valid, it keeps trying to calculate the next direction until it finds a valid move,
+     * for at most MAX_ATTEMPTS moves, then it does not move this turn.
+     * @param currentPosition the current position of the car, packed by Position.pack().
      */
     @Override
-    public void move(Position currentPosition) {
-        Position newPos = calculateNextPosition(currentPosition);
+    public void move(int currentPosition) {
+        int newPos = calculateNextPosition(currentPosition);
 
-        while (!track.checkValidMove(newPos)){
+        for (int attempt = 1; !track.checkValidPath(currentPosition, newPos); attempt++){
+            if (attempt == MAX_ATTEMPTS){
+                return;
+            }
             setNextDirection();
             newPos = calculateNextPosition(currentPosition);
         }
-        botCar.updatePosition(newPos);
+        botCar.updatePosition(Position.rowOf(newPos), Position.columnOf(newPos));
     }
 
     /**
@@ -89,16 +118,15 @@ public class HardBotStrategy implements iMovementStrategy {
      */
     @Override
     public void setSpeed() {
-        Random random = new Random();
         speed = 1 + random.nextInt(2);
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPos){
+    public int calculateNextPosition(int currentPos){
         setSpeed();
 
-        int newRow = currentPos.getRow();
-        int newColumn = currentPos.getColumn();
+        int newRow = Position.rowOf(currentPos);
+        int newColumn = Position.columnOf(currentPos);
 
         switch (nextDirection){
             case UP     : newRow -= speed; break;
@@ -106,7 +134,13 @@ public class HardBotStrategy implements iMovementStrategy {
             case LEFT   : newColumn -= speed; break;
             case RIGHT  : newColumn += speed; break;
         }
-        return new Position(newRow, newColumn);
+        return Position.pack(newRow, newColumn);
+    }
+
+    @Override
+    public Position calculateNextPosition(Position currentPos){
+        int newPos = calculateNextPosition(currentPos.pack());
+        return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
     }
 
     @Override
@@ -119,6 +153,11 @@ public class HardBotStrategy implements iMovementStrategy {
         return nextDirection;
     }
 
+    @Override
+    public iTrack getTrack(){
+        return track;
+    }
+
     @Override
     public void setCarOwner(iCar car){
         this.botCar = car;
@@ -25,7 +25,7 @@
 
 package it.unicam.cs.mpmgc.formula1.api.players;
 
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.ConsoleMessages;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
@@ -41,7 +41,7 @@ public class HumanMovementStrategy implements iMovementStrategy {
     private Directions lastDirection;
     private Directions nextDirection;
     private int speed;
-    private final Track track;
+    private final iTrack track;
     private iCar humanCar;
     private final ConsoleMessages messages;
 
@@ -50,7 +50,7 @@ public class HumanMovementStrategy implements iMovementStrategy {
      * It sets the starting speed to 1.
      * @param track the track on which the human car moves.
      */
-    public HumanMovementStrategy(Track track){
+    public HumanMovementStrategy(iTrack track){
         this.speed = 1;
         this.track = track;
         this.messages = new ConsoleMessages();
@@ -58,23 +58,23 @@ public class HumanMovementStrategy implements iMovementStrategy {
 
     /**
      * The logic is to set the next direction and speed, and calculate the next position.
-     * if the new position is not valid, you get an error message in console, and the car do not move.
+     * if the new position is not valid, or a wall is in the path, you get an error message in console, and the car do not move.
      * otherwise the car moves, and your current speed is printed in console.
-     * @param currentPosition the current position of the car.
+     * @param currentPosition the current position of the car, packed by Position.pack().
      */
     @Override
-    public void move(Position currentPosition) {
+    public void move(int currentPosition) {
         setNextDirection();
         setSpeed();
 
-        Position newPos = calculateNextPosition(currentPosition);
-        if (!track.checkValidMove(newPos)){
+        int newPos = calculateNextPosition(currentPosition);
+        if (!track.checkValidPath(currentPosition, newPos)){
             messages.invalidMoveMessage();
             return;
         }
 
         lastDirection = nextDirection;
-        humanCar.updatePosition(newPos);
+        humanCar.updatePosition(Position.rowOf(newPos), Position.columnOf(newPos));
         messages.speedMessage(speed);
     }
 
@@ -122,9 +122,9 @@ public class HumanMovementStrategy implements iMovementStrategy {
     }
 
     @Override
-    public Position calculateNextPosition(Position currentPos){
-        int newRow = currentPos.getRow();
-        int newColumn = currentPos.getColumn();
+    public int calculateNextPosition(int currentPos){
+        int newRow = Position.rowOf(currentPos);
+        int newColumn = Position.columnOf(currentPos);
 
         switch (nextDirection){
             case UP     : newRow -= speed; break;
@@ -132,7 +132,13 @@ public class HumanMovementStrategy implements iMovementStrategy {
             case LEFT   : newColumn -= speed; break;
             case RIGHT  : newColumn += speed; break;
         }
-        return new Position(newRow, newColumn);
+        return Position.pack(newRow, newColumn);
+    }
+
+    @Override
+    public Position calculateNextPosition(Position currentPos){
+        int newPos = calculateNextPosition(currentPos.pack());
+        return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
     }
 
     @Override
@@ -143,6 +149,9 @@ public class HumanMovementStrategy implements iMovementStrategy {
     @Override
     public Directions getNextDirection(){ return nextDirection; }
 
+    @Override
+    public iTrack getTrack(){ return track; }
+
 
     @Override
     public void setCarOwner(iCar car) {
@@ -0,0 +1,179 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.players;
+
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+/**
+ * This class implements a movement strategy for an OPTIMAL bot controlled car.
+ * The bot follows the shortest race line found by the OptimalLinePlanner of the track,
+ * using the same speed rules of a human player, so it moves with speed from 1 to 3.
+ * If the car is not where the line expects it, the line is planned again.
+ * If a move of the line is blocked by another car, the line is planned again around the occupied cells,
+ * since the shared line would lead to the same blocked move.
+ */
+public class OptimalBotStrategy implements iMovementStrategy {
+
+    private Directions lastDirection;
+    private Directions nextDirection;
+    private int speed;
+    private final iTrack track;
+    private final OptimalLinePlanner planner;
+    private int[] plan;
+    private int planStep;
+    private int planPosition;
+    private iCar botCar;
+
+    /**
+     * Creates a new instance of the bot car associated with the track.
+     * It sets the starting speed to 1, and starts from a standing start.
+     * @param track the track on which the car moves.
+     */
+    public OptimalBotStrategy(iTrack track){
+        this.speed = 1;
+        this.nextDirection = Directions.RIGHT;
+        this.track = track;
+        this.planner = OptimalLinePlanner.forTrack(track);
+    }
+
+    /**
+     * The OPTIMAL Bot takes the next direction from its race line, and moves if the path is valid.
+     * If it is not valid, it plans a line around the occupied cells, and takes its first move,
+     * if there is no such line it does not move this turn.
+     * @param currentPosition the current position of the car, packed by Position.pack().
+     */
+    @Override
+    public void move(int currentPosition) {
+        if (!isOnPlan(currentPosition)){
+            planPosition = currentPosition;
+            plan = planner.plan(Position.rowOf(currentPosition), Position.columnOf(currentPosition),
+                    speed, lastDirection);
+            planStep = 0;
+        }
+        if (plan == null || planStep >= plan.length){
+            return;
+        }
+        int lastSpeed = speed;
+        setNextDirection();
+        setSpeed();
+
+        int newPos = calculateNextPosition(currentPosition);
+        if (!track.checkValidPath(currentPosition, newPos)){
+            speed = lastSpeed;
+            plan = planner.planAround(track, Position.rowOf(currentPosition), Position.columnOf(currentPosition),
+                    speed, lastDirection);
+            planStep = 0;
+            if (plan == null || plan.length == 0){
+                plan = null;
+                return;
+            }
+            setNextDirection();
+            setSpeed();
+            newPos = calculateNextPosition(currentPosition);
+        }
+        lastDirection = nextDirection;
+        planStep++;
+        planPosition = newPos;
+        botCar.updatePosition(Position.rowOf(newPos), Position.columnOf(newPos));
+    }
+
+    /**
+     * The next direction is the direction of the next state of the race line.
+     */
+    @Override
+    public void setNextDirection() {
+        nextDirection = OptimalLinePlanner.directionOf(plan[planStep]);
+    }
+
+    /**
+     * Same speed logic of a human player:
+     * if the car keeps direction, the speed increases by 1 until MAX 3,
+     * if the car changes direction, the speed resets back to 1.
+     */
+    @Override
+    public void setSpeed() {
+        if (lastDirection == nextDirection){
+            if (speed < OptimalLinePlanner.MAX_SPEED) {
+                speed++;
+            }
+        }
+        else { speed = 1; }
+    }
+
+    @Override
+    public int calculateNextPosition(int currentPos){
+        int newRow = Position.rowOf(currentPos);
+        int newColumn = Position.columnOf(currentPos);
+
+        switch (nextDirection){
+            case UP     : newRow -= speed; break;
+            case DOWN   : newRow += speed; break;
+            case LEFT   : newColumn -= speed; break;
+            case RIGHT  : newColumn += speed; break;
+        }
+        return Position.pack(newRow, newColumn);
+    }
+
+    @Override
+    public Position calculateNextPosition(Position currentPos){
+        int newPos = calculateNextPosition(currentPos.pack());
+        return track.positionAt(Position.rowOf(newPos), Position.columnOf(newPos));
+    }
+
+    @Override
+    public int getSpeed(){
+        return speed;
+    }
+
+    @Override
+    public Directions getNextDirection(){
+        return nextDirection;
+    }
+
+    @Override
+    public iTrack getTrack(){
+        return track;
+    }
+
+    @Override
+    public void setCarOwner(iCar car){
+        this.botCar = car;
+    }
+
+    /**
+     * Gets the number of turns the race line still needs to reach the finish line.
+     * @return the turns left, or -1 if there is no race line yet.
+     */
+    public int getRemainingTurns(){
+        return plan == null ? -1 : plan.length - planStep;
+    }
+
+    private boolean isOnPlan(int currentPosition){
+        return plan != null && planPosition == currentPosition;
+    }
+
+}
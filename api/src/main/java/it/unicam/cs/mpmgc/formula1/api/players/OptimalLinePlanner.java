@@ -0,0 +1,433 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.players;
+
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * This class finds the shortest race line of a track, in number of turns,
+ * following the same speed rules of a human player:
+ * keeping the direction increases the speed by 1 until MAX 3, changing direction resets it to 1.
+ * It runs an A* search over the states (position, speed, last direction), using the distance field
+ * of the track divided by the max speed as heuristic, which never overestimates the turns left.
+ * A state is packed in an int as (row * columns + column) * 16 + speed * 4 + direction,
+ * where speed 0 means a standing start, so the open and closed sets never create objects.
+ * Plans are cached by starting state, and there is one planner per track,
+ * which only keeps a weak reference to its track, so the planners of discarded tracks can be collected.
+ * A planner keeps at most MAX_PLANS plans, when it is full the least recently used plan is dropped,
+ * so the replans of blocked or moved cars do not make it grow for the whole life of the track.
+ */
+public final class OptimalLinePlanner {
+
+    /**
+     * The max speed a car can reach.
+     */
+    public static final int MAX_SPEED = 3;
+
+    /**
+     * The max number of plans cached by a planner.
+     */
+    public static final int MAX_PLANS = 256;
+
+    private static final Directions[] DIRECTIONS = Directions.values();
+    private static final int[] ROW_STEP = {-1, 1, 0, 0};
+    private static final int[] COLUMN_STEP = {0, 0, 1, -1};
+    private static final int[] UNREACHABLE_PLAN = new int[0];
+    private static final Map<iTrack, OptimalLinePlanner> PLANNERS = new WeakHashMap<>();
+
+    private final WeakReference<iTrack> track;
+    private final int columns;
+    private final LinkedHashMap<Integer, int[]> plans;
+
+    private OptimalLinePlanner(iTrack track){
+        if ((long) track.getRows() * track.getColumns() * 16 > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Track is too big to be planned: "
+                    + track.getRows() + "x" + track.getColumns());
+        }
+        this.track = new WeakReference<>(track);
+        this.columns = track.getColumns();
+        this.plans = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, int[]> eldest){
+                return size() > MAX_PLANS;
+            }
+        };
+    }
+
+    /**
+     * Gets the planner of a track, creating it the first time.
+     * The planner of a track overlay is the one of its base track, so the plans do not depend on
+     * where the cars are, and they are shared by all the races on the same track.
+     * @param track the track to plan on.
+     * @return the planner shared by all the cars of the track.
+     * @throws IllegalArgumentException if the track is null or too big to pack its states in an int.
+     */
+    public static OptimalLinePlanner forTrack(iTrack track){
+        if (track == null){
+            throw new IllegalArgumentException("Track can not be null.");
+        }
+        iTrack base = track instanceof TrackOverlay overlay ? overlay.getBase() : track;
+        synchronized (PLANNERS){
+            return PLANNERS.computeIfAbsent(base, OptimalLinePlanner::new);
+        }
+    }
+
+    /**
+     * Plans the shortest race line from a given state.
+     * @param row the row of the car.
+     * @param column the column of the car.
+     * @param speed the current speed of the car, ignored if there is no last direction.
+     * @param lastDirection the direction of the last move, null for a standing start.
+     * @return the packed states reached after every turn, the last one is on the finish line.
+     *         It is empty if the car is already on the finish line, null if the finish line can not be reached.
+     */
+    public int[] plan(int row, int column, int speed, Directions lastDirection){
+        int start = packStart(row, column, speed, lastDirection);
+        int[] plan;
+        synchronized (plans){
+            plan = plans.get(start);
+        }
+        if (plan == null){
+            // THE SEARCH RUNS OUTSIDE THE LOCK, SO THE CARS OF OTHER RACES ARE NOT BLOCKED BY IT
+            plan = search(start, this.track.get());
+            synchronized (plans){
+                plans.put(start, plan);
+            }
+        }
+        return plan == UNREACHABLE_PLAN ? null : plan;
+    }
+
+    /**
+     * Plans the shortest race line from a given state on a track with cars on it, such as a TrackOverlay of the track
+     * of this planner, so the occupied cells are avoided as walls.
+     * The plan is not cached, since it depends on where the cars are.
+     * @param occupiedTrack the track with the cars on it, of the same size of the track of this planner.
+     * @param row the row of the car.
+     * @param column the column of the car.
+     * @param speed the current speed of the car, ignored if there is no last direction.
+     * @param lastDirection the direction of the last move, null for a standing start.
+     * @return the packed states reached after every turn, the last one is on the finish line.
+     *         It is empty if the car is already on the finish line, null if the finish line can not be reached.
+     * @throws IllegalArgumentException if occupiedTrack is null or its columns are not the ones of this planner.
+     */
+    public int[] planAround(iTrack occupiedTrack, int row, int column, int speed, Directions lastDirection){
+        if (occupiedTrack == null || occupiedTrack.getColumns() != columns){
+            throw new IllegalArgumentException("The track does not match the track of this planner.");
+        }
+        int[] plan = search(packStart(row, column, speed, lastDirection), occupiedTrack);
+        return plan == UNREACHABLE_PLAN ? null : plan;
+    }
+
+    /**
+     * Gets the minimum number of turns to reach the finish line from a standing start,
+     * which is a lower bound of the race time of any car starting from there.
+     * @param start the starting position.
+     * @return the minimum number of turns, or -1 if the finish line can not be reached.
+     */
+    public int minimumTurns(Position start){
+        int[] plan = plan(start.getRow(), start.getColumn(), 0, null);
+        return plan == null ? -1 : plan.length;
+    }
+
+    /**
+     * @param state a packed state.
+     * @return the row of the state.
+     */
+    public int rowOf(int state){
+        return (state >>> 4) / columns;
+    }
+
+    /**
+     * @param state a packed state.
+     * @return the column of the state.
+     */
+    public int columnOf(int state){
+        return (state >>> 4) % columns;
+    }
+
+    /**
+     * @param state a packed state.
+     * @return the speed of the state, 0 for a standing start.
+     */
+    public static int speedOf(int state){
+        return (state >>> 2) & 3;
+    }
+
+    /**
+     * @param state a packed state.
+     * @return the last direction of the state, null for a standing start.
+     */
+    public static Directions directionOf(int state){
+        return speedOf(state) == 0 ? null : DIRECTIONS[state & 3];
+    }
+
+    /**
+     * @return the number of plans cached by this planner, at most MAX_PLANS.
+     */
+    public int cachedPlans(){
+        synchronized (plans){
+            return plans.size();
+        }
+    }
+
+    private int packStart(int row, int column, int speed, Directions lastDirection){
+        return lastDirection == null
+                ? pack(row, column, 0, 0)
+                : pack(row, column, Math.max(1, Math.min(speed, MAX_SPEED)), lastDirection.ordinal());
+    }
+
+    private int pack(int row, int column, int speed, int direction){
+        return ((row * columns + column) << 4) | (speed << 2) | direction;
+    }
+
+    private int[] search(int start, iTrack track){
+        if (track == null){
+            return UNREACHABLE_PLAN;
+        }
+        DistanceField distanceField = track.getDistanceField();
+        StateTable states = new StateTable();
+        StateHeap open = new StateHeap();
+
+        int startRow = rowOf(start);
+        int startColumn = columnOf(start);
+        if (track.isFinish(startRow, startColumn)){
+            return new int[0];
+        }
+        int startDistance = distanceField.distanceAt(startRow, startColumn);
+        if (startDistance == DistanceField.UNREACHABLE){
+            return UNREACHABLE_PLAN;
+        }
+        states.update(states.slotOf(start), 0, -1);
+        open.push(heuristic(startDistance), start);
+
+        while (!open.isEmpty()){
+            int state = open.pop();
+            int slot = states.slotOf(state);
+            if (states.isClosed(slot)){
+                continue;
+            }
+            states.close(slot);
+            int row = rowOf(state);
+            int column = columnOf(state);
+            if (state != start && track.isFinish(row, column)){
+                return rebuildPlan(states, state);
+            }
+            int cost = states.costAt(slot) + 1;
+            int speed = speedOf(state);
+            int lastDirection = state & 3;
+            int from = Position.pack(row, column);
+
+            for (int direction = 0; direction < DIRECTIONS.length; direction++){
+                int nextSpeed = (speed > 0 && direction == lastDirection) ? Math.min(speed + 1, MAX_SPEED) : 1;
+                int nextRow = row + ROW_STEP[direction] * nextSpeed;
+                int nextColumn = column + COLUMN_STEP[direction] * nextSpeed;
+                int distance = distanceField.distanceAt(nextRow, nextColumn);
+                if (distance == DistanceField.UNREACHABLE
+                        || !track.checkValidPath(from, Position.pack(nextRow, nextColumn))){
+                    continue;
+                }
+                int next = pack(nextRow, nextColumn, nextSpeed, direction);
+                int nextSlot = states.slotOf(next);
+                if (!states.isClosed(nextSlot) && cost < states.costAt(nextSlot)){
+                    states.update(nextSlot, cost, state);
+                    open.push(cost + heuristic(distance), next);
+                }
+            }
+        }
+        return UNREACHABLE_PLAN;
+    }
+
+    private static int heuristic(int distance){
+        return (distance + MAX_SPEED - 1) / MAX_SPEED;
+    }
+
+    private static int[] rebuildPlan(StateTable states, int goal){
+        int length = states.costAt(states.slotOf(goal));
+        int[] plan = new int[length];
+        int state = goal;
+        for (int turn = length - 1; turn >= 0; turn--){
+            plan[turn] = state;
+            state = states.parentAt(states.slotOf(state));
+        }
+        return plan;
+    }
+
+    /**
+     * Open addressing hash table from packed states to cost, parent state and closed flag.
+     */
+    private static final class StateTable {
+
+        private static final int EMPTY = -1;
+
+        private int[] keys;
+        private int[] costs;
+        private int[] parents;
+        private boolean[] closed;
+        private int size;
+
+        StateTable(){
+            allocate(1 << 10);
+        }
+
+        /**
+         * Finds the slot of a state, inserting it with an infinite cost if missing.
+         */
+        int slotOf(int state){
+            int mask = keys.length - 1;
+            int slot = mix(state) & mask;
+            while (keys[slot] != EMPTY){
+                if (keys[slot] == state){
+                    return slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (size * 2 >= keys.length){
+                grow();
+                return slotOf(state);
+            }
+            keys[slot] = state;
+            size++;
+            return slot;
+        }
+
+        int costAt(int slot){
+            return costs[slot];
+        }
+
+        int parentAt(int slot){
+            return parents[slot];
+        }
+
+        boolean isClosed(int slot){
+            return closed[slot];
+        }
+
+        void close(int slot){
+            closed[slot] = true;
+        }
+
+        void update(int slot, int cost, int parent){
+            costs[slot] = cost;
+            parents[slot] = parent;
+        }
+
+        private void allocate(int capacity){
+            keys = new int[capacity];
+            costs = new int[capacity];
+            parents = new int[capacity];
+            closed = new boolean[capacity];
+            Arrays.fill(keys, EMPTY);
+            Arrays.fill(costs, Integer.MAX_VALUE);
+        }
+
+        private void grow(){
+            int[] oldKeys = keys;
+            int[] oldCosts = costs;
+            int[] oldParents = parents;
+            boolean[] oldClosed = closed;
+            allocate(oldKeys.length * 2);
+            int mask = keys.length - 1;
+            for (int old = 0; old < oldKeys.length; old++){
+                if (oldKeys[old] != EMPTY){
+                    int slot = mix(oldKeys[old]) & mask;
+                    while (keys[slot] != EMPTY){
+                        slot = (slot + 1) & mask;
+                    }
+                    keys[slot] = oldKeys[old];
+                    costs[slot] = oldCosts[old];
+                    parents[slot] = oldParents[old];
+                    closed[slot] = oldClosed[old];
+                }
+            }
+        }
+
+        private static int mix(int state){
+            int hash = state * 0x9E3779B9;
+            return hash ^ (hash >>> 16);
+        }
+    }
+
+    /**
+     * Binary min heap of packed states ordered by estimated total cost,
+     * each entry is a long with the cost in the high half and the state in the low half.
+     */
+    private static final class StateHeap {
+
+        private long[] entries = new long[1 << 10];
+        private int size;
+
+        boolean isEmpty(){
+            return size == 0;
+        }
+
+        void push(int priority, int state){
+            if (size == entries.length){
+                entries = Arrays.copyOf(entries, size * 2);
+            }
+            long entry = ((long) priority << 32) | state;
+            int child = size++;
+            while (child > 0){
+                int parent = (child - 1) >>> 1;
+                if (entries[parent] <= entry){
+                    break;
+                }
+                entries[child] = entries[parent];
+                child = parent;
+            }
+            entries[child] = entry;
+        }
+
+        int pop(){
+            long top = entries[0];
+            long last = entries[--size];
+            int parent = 0;
+            int child = 1;
+            while (child < size){
+                if (child + 1 < size && entries[child + 1] < entries[child]){
+                    child++;
+                }
+                if (last <= entries[child]){
+                    break;
+                }
+                entries[parent] = entries[child];
+                parent = child;
+                child = 2 * parent + 1;
+            }
+            entries[parent] = last;
+            return (int) top;
+        }
+    }
+
+}
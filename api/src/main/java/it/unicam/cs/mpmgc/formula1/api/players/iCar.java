@@ -43,6 +43,12 @@ public interface iCar {
      */
     Position getCurrentPosition();
 
+    /**
+     * Gets the current position of the car packed in an int, see Position.pack().
+     * @return car current packed position.
+     */
+    int getPackedPosition();
+
     /**
      * Gets the movement strategy of the car.
      * @return car movement strategy "Bot/Human".
@@ -55,4 +61,11 @@ public interface iCar {
      */
     void updatePosition(Position newPosition);
 
+    /**
+     * updates the position of the car on track, without any Position object.
+     * @param row the new row of the car.
+     * @param column the new column of the car.
+     */
+    void updatePosition(int row, int column);
+
 }
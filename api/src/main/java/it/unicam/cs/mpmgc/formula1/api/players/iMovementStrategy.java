@@ -25,6 +25,7 @@
 
 package it.unicam.cs.mpmgc.formula1.api.players;
 
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
 /**
@@ -37,7 +38,15 @@ public interface iMovementStrategy {
      * Determines the next position for the car, and moves it to that position.
      * @param currentPosition the current position of the car.
      */
-    void move(Position currentPosition);
+    default void move(Position currentPosition){
+        move(currentPosition.pack());
+    }
+
+    /**
+     * Determines the next position for the car, and moves it to that position, without any Position object.
+     * @param currentPosition the current position of the car, packed by Position.pack().
+     */
+    void move(int currentPosition);
 
     /**
      * Sets the next direction of the car based on User input OR Bot strategy.
@@ -56,6 +65,13 @@ public interface iMovementStrategy {
      */
     Position calculateNextPosition(Position currentPosition);
 
+    /**
+     * Calculates the new position of the car, based on its current position and direction, without any Position object.
+     * @param currentPosition the current position of the car, packed by Position.pack().
+     * @return the calculated new position, packed by Position.pack().
+     */
+    int calculateNextPosition(int currentPosition);
+
     /**
      * Gets the speed of the car.
      * @return the car speed.
@@ -68,6 +84,12 @@ public interface iMovementStrategy {
      */
     Directions getNextDirection();
 
+    /**
+     * Gets the track on which the car moves, whose positions are shared by the car.
+     * @return the track of the strategy.
+     */
+    iTrack getTrack();
+
     /**
      * Associates a car instance with a movement strategy.
      * After creating the strategy instance we assign it to the car.
@@ -0,0 +1,242 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.io.PrintStream;
+
+/**
+ * This class renders a track in console a frame at a time.
+ * Every frame is drawn in a buffer reused by the next frames, and printed with a single write,
+ * instead of printing a cell at a time.
+ * In diff mode only the first frame is printed whole, the next frames print only the cells changed since the last one,
+ * moving the cursor on them with ANSI escape codes, so the track must stay at the top of the screen,
+ * and nothing else should be printed between two frames.
+ * When the frames are rendered with the positions of the cars, only the cells left and entered by the cars are read,
+ * so the cost of a frame depends on the number of cars, and not on the size of the track.
+ */
+public class ConsoleTrackRenderer {
+
+    private static final String ESCAPE = "\u001B[";
+    private static final String CLEAR_SCREEN = ESCAPE + "2J" + ESCAPE + "H";
+
+    private final PrintStream out;
+    private final boolean diffMode;
+    private final StringBuilder changes;
+    private char[] frame;
+    private int rows;
+    private int columns;
+    private boolean drawn;
+    private int[] drawnPositions;
+
+    /**
+     * Creates a renderer which prints every frame whole.
+     * @param out the stream where the frames are printed.
+     * @throws IllegalArgumentException if out is null.
+     */
+    public ConsoleTrackRenderer(PrintStream out){
+        this(out, false);
+    }
+
+    /**
+     * Creates a renderer which prints every frame whole, or only the changed cells in diff mode.
+     * @param out the stream where the frames are printed.
+     * @param diffMode true to print only the cells changed since the last frame, using ANSI escape codes.
+     * @throws IllegalArgumentException if out is null.
+     */
+    public ConsoleTrackRenderer(PrintStream out, boolean diffMode){
+        if (out == null){
+            throw new IllegalArgumentException("Output stream can not be null.");
+        }
+        this.out = out;
+        this.diffMode = diffMode;
+        this.changes = new StringBuilder();
+        this.frame = new char[0];
+        this.drawn = false;
+    }
+
+    /**
+     * Renders a frame of the track, with the markers drawn on it if it is an overlay.
+     * The cells are read one by one, so the track is never copied.
+     * In diff mode every cell is compared with the last frame, since the moves are not known,
+     * see {@link #render(iTrack, int[])} to read only the cells changed by the cars.
+     * @param track the track to be rendered.
+     * @throws IllegalArgumentException if the provided track is null.
+     */
+    public void render(iTrack track){
+        checkTrack(track);
+        if (diffMode && drawn){
+            printChanges(track);
+        }
+        else {
+            printFrame(track);
+        }
+        drawnPositions = null;
+        out.flush();
+    }
+
+    /**
+     * Renders a frame of the track after the cars moved, with the markers drawn on it if it is an overlay.
+     * In diff mode only the cells left and entered by the cars since the last frame are read and printed,
+     * the other cells must not have changed.
+     * The frame is printed whole the first time, or when the number of cars changed.
+     * @param track the track to be rendered.
+     * @param positions the packed positions of the cars.
+     * @throws IllegalArgumentException if the provided track or positions are null.
+     */
+    public void render(iTrack track, int[] positions){
+        if (positions == null){
+            throw new IllegalArgumentException("Positions can't be null.");
+        }
+        checkTrack(track);
+        if (diffMode && drawn && drawnPositions != null && drawnPositions.length == positions.length){
+            printMoves(track, positions);
+            System.arraycopy(positions, 0, drawnPositions, 0, positions.length);
+        }
+        else {
+            printFrame(track);
+            drawnPositions = positions.clone();
+        }
+        out.flush();
+    }
+
+    /**
+     * Makes the next frame be printed whole also in diff mode, for example after the screen was cleared.
+     */
+    public void reset(){
+        drawn = false;
+        drawnPositions = null;
+    }
+
+    /**
+     * Checks the track to be rendered, and resizes the buffer if its dimensions changed.
+     */
+    private void checkTrack(iTrack track){
+        if (track == null){
+            throw new IllegalArgumentException("Track can't be null.");
+        }
+        if (track.getRows() != rows || track.getColumns() != columns){
+            resize(track.getRows(), track.getColumns());
+        }
+    }
+
+    /**
+     * Allocates the buffer of a frame, a line for every row of the track, ended by a new line.
+     */
+    private void resize(int rows, int columns){
+        this.rows = rows;
+        this.columns = columns;
+        this.frame = new char[rows * (columns + 1)];
+        this.drawn = false;
+    }
+
+    /**
+     * Draws every cell of the track in the buffer, then prints the whole buffer,
+     * after clearing the screen in diff mode.
+     */
+    private void printFrame(iTrack track){
+        int index = 0;
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                frame[index++] = track.cellAt(row, column);
+            }
+            frame[index++] = '\n';
+        }
+        if (diffMode){
+            out.print(CLEAR_SCREEN);
+        }
+        out.print(frame);
+        drawn = true;
+    }
+
+    /**
+     * Compares every cell of the track with the last frame, and prints only the changed ones,
+     * each after the escape code which moves the cursor on it, then moves the cursor under the track.
+     */
+    private void printChanges(iTrack track){
+        changes.setLength(0);
+        for (int row = 0; row < rows; row++){
+            int index = row * (columns + 1);
+            for (int column = 0; column < columns; column++, index++){
+                char cell = track.cellAt(row, column);
+                if (frame[index] != cell){
+                    frame[index] = cell;
+                    moveCursor(row, column);
+                    changes.append(cell);
+                }
+            }
+        }
+        if (changes.length() > 0){
+            moveCursor(rows, 0);
+            out.append(changes);
+        }
+    }
+
+    /**
+     * Prints only the cells left and entered by the cars which moved since the last frame,
+     * then moves the cursor under the track.
+     */
+    private void printMoves(iTrack track, int[] positions){
+        changes.setLength(0);
+        for (int car = 0; car < positions.length; car++){
+            if (positions[car] != drawnPositions[car]){
+                updateCell(track, drawnPositions[car]);
+                updateCell(track, positions[car]);
+            }
+        }
+        if (changes.length() > 0){
+            moveCursor(rows, 0);
+            out.append(changes);
+        }
+    }
+
+    /**
+     * Reads the cell of a packed position, and appends it if it changed since the last frame,
+     * nothing happens outside the track.
+     */
+    private void updateCell(iTrack track, int position){
+        int row = Position.rowOf(position);
+        int column = Position.columnOf(position);
+        if (row < 0 || row >= rows || column < 0 || column >= columns){
+            return;
+        }
+        int index = row * (columns + 1) + column;
+        char cell = track.cellAt(row, column);
+        if (frame[index] != cell){
+            frame[index] = cell;
+            moveCursor(row, column);
+            changes.append(cell);
+        }
+    }
+
+    /**
+     * Appends the escape code which moves the cursor on a cell, the rows and columns of the terminal start from 1.
+     */
+    private void moveCursor(int row, int column){
+        changes.append(ESCAPE).append(row + 1).append(';').append(column + 1).append('H');
+    }
+
+}
@@ -0,0 +1,122 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import java.util.function.IntPredicate;
+
+/**
+ * This class represents, for every cell of a track, the number of single cell steps
+ * needed to reach the nearest finish line cell without crossing walls.
+ * It is computed once with a breadth first search starting from all the finish line cells,
+ * then every query is a single array read.
+ */
+public final class DistanceField {
+
+    /**
+     * The distance of walls, of the track border, and of cells that can not reach the finish line.
+     */
+    public static final int UNREACHABLE = Integer.MAX_VALUE;
+
+    private final int rows;
+    private final int columns;
+    private final int[] distances;
+
+    /**
+     * Computes the distance field of a track.
+     * The border rows and columns are never free, as for valid moves.
+     * @param rows the number of rows of the track.
+     * @param columns the number of columns of the track.
+     * @param free tells if the cell at a given index (row * columns + column) can be driven on.
+     * @param finish tells if the cell at a given index belongs to the finish line.
+     */
+    DistanceField(int rows, int columns, IntPredicate free, IntPredicate finish){
+        this.rows = rows;
+        this.columns = columns;
+        this.distances = new int[rows * columns];
+        int[] queue = new int[rows * columns];
+        int head = 0;
+        int tail = 0;
+
+        for (int index = 0; index < distances.length; index++){
+            distances[index] = UNREACHABLE;
+            if (isInside(index) && free.test(index) && finish.test(index)){
+                distances[index] = 0;
+                queue[tail++] = index;
+            }
+        }
+        while (head < tail){
+            int index = queue[head++];
+            int next = distances[index] + 1;
+            tail = visit(index - columns, next, free, queue, tail);
+            tail = visit(index + columns, next, free, queue, tail);
+            tail = visit(index - 1, next, free, queue, tail);
+            tail = visit(index + 1, next, free, queue, tail);
+        }
+    }
+
+    /**
+     * Creates a distance field from distances computed before, for example stored in a binary track file.
+     * The array is not copied.
+     * @param rows the number of rows of the track.
+     * @param columns the number of columns of the track.
+     * @param distances the distance of the cell at every index (row * columns + column).
+     * @throws IllegalArgumentException if distances does not hold one distance per cell.
+     */
+    DistanceField(int rows, int columns, int[] distances){
+        if (distances == null || distances.length != rows * columns){
+            throw new IllegalArgumentException("Distances must hold one distance per cell.");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.distances = distances;
+    }
+
+    /**
+     * Gets the distance from a cell to the finish line.
+     * @param row the row index of the cell.
+     * @param column the column index of the cell.
+     * @return the number of steps to the nearest finish line cell, or UNREACHABLE.
+     */
+    public int distanceAt(int row, int column){
+        if (row <= 0 || row >= rows || column <= 0 || column >= columns){
+            return UNREACHABLE;
+        }
+        return distances[row * columns + column];
+    }
+
+    private int visit(int index, int distance, IntPredicate free, int[] queue, int tail){
+        if (isInside(index) && distances[index] == UNREACHABLE && free.test(index)){
+            distances[index] = distance;
+            queue[tail++] = index;
+        }
+        return tail;
+    }
+
+    private boolean isInside(int index){
+        return index >= columns && index < distances.length && index % columns != 0;
+    }
+
+}
@@ -0,0 +1,272 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import it.unicam.cs.mpmgc.formula1.api.utils.PositionTable;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class represents a track which is read straight from its memory mapped text file.
+ * Moves are checked on the mapped bytes, so the heap used does not depend on the track size.
+ * The mapping is read only, so many processes racing on the same file share its pages in the operating system cache.
+ * Opening a track reads the whole file once, to find the rows and to reject rows of a different length.
+ * When all the lines end the same way, the start of a row is computed from its index,
+ * otherwise the table with the start of every row is kept.
+ * No drivable bitset is built, so a path is checked one mapped byte at a time,
+ * and {@link #checkValidPath(int, int)} costs as many reads as the cells it crosses.
+ * This is cheap for the speeds of a race, for long paths prefer a {@link PackedTrack}.
+ * The finish line list and the distance field are built from the whole file the first time they are requested.
+ */
+public class MappedTrack implements iTrack {
+
+    private final int rows;
+    private final int columns;
+    private final MappedByteBuffer cells;
+    private final int stride;
+    private final int[] rowOffsets;
+    private final PositionTable positions;
+    private volatile List<Position> finishPositions;
+    private volatile DistanceField distanceField;
+
+    /**
+     * Maps a track file, in the same text format read by FileIO.
+     * The file can be changed or deleted afterwards only if no MappedTrack of it is still in use.
+     * @param file the path of the track file.
+     * @throws IOException if the file can't be mapped.
+     * @throws IllegalArgumentException if file is null.
+     * @throws IllegalStateException if the file is empty, too big to be mapped, or its lines have different lengths.
+     */
+    public MappedTrack(Path file) throws IOException {
+        if (file == null){
+            throw new IllegalArgumentException("Track file can not be null.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            long size = channel.size();
+            if (size == 0){
+                throw new IllegalStateException("Track file is empty.");
+            }
+            if (size > Integer.MAX_VALUE){
+                throw new IllegalStateException("Track file is too big to be mapped.");
+            }
+            this.cells = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+        int length = cells.limit();
+        int newLine = 0;
+        while (newLine < length && cells.get(newLine) != '\n'){
+            newLine++;
+        }
+        int lineBreak = newLine == length ? 0 : (newLine > 0 && cells.get(newLine - 1) == '\r' ? 2 : 1);
+        this.columns = newLine + 1 - Math.max(lineBreak, 1);
+        if (columns == 0){
+            throw new IllegalStateException("Track lines can not be empty.");
+        }
+        this.stride = columns + lineBreak;
+        int[] offsets = scanRows(length);
+        this.rows = offsets.length;
+        this.rowOffsets = hasFixedStride(offsets) ? null : offsets;
+        this.positions = new PositionTable(rows, columns);
+    }
+
+    /**
+     * Finds the start of every row in one scan of the file,
+     * and checks that all the rows are as long as the first one.
+     * @return the offset of every row in the file.
+     * @throws IllegalStateException if a row is not as long as the first one.
+     */
+    private int[] scanRows(int length){
+        int[] offsets = new int[16];
+        int count = 0;
+        int start = 0;
+        while (start < length){
+            int end = start;
+            while (end < length && cells.get(end) != '\n'){
+                end++;
+            }
+            int cellsEnd = end > start && cells.get(end - 1) == '\r' ? end - 1 : end;
+            if (cellsEnd - start != columns){
+                throw new IllegalStateException("Track lines must all have the same length.");
+            }
+            if (count == offsets.length){
+                offsets = Arrays.copyOf(offsets, count * 2);
+            }
+            offsets[count++] = start;
+            start = end + 1;
+        }
+        return Arrays.copyOf(offsets, count);
+    }
+
+    /**
+     * @return true if every row starts at its index times the stride, so the offsets are not needed.
+     */
+    private boolean hasFixedStride(int[] offsets){
+        for (int row = 0; row < offsets.length; row++){
+            if (offsets[row] != row * stride){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the character of a cell inside the track.
+     */
+    private byte byteAt(int row, int column){
+        int offset = rowOffsets == null ? row * stride : rowOffsets[row];
+        return cells.get(offset + column);
+    }
+
+    private static boolean isFree(byte cell){
+        return cell == '.' || cell == '_';
+    }
+
+    /**
+     * Same rules of {@link Track#checkValidMove(int, int)}, checked on the mapped byte of the cell.
+     */
+    @Override
+    public boolean checkValidMove(int row, int column) {
+        if ((row - 1 | column - 1 | rows - 1 - row | columns - 1 - column) < 0){
+            return false;
+        }
+        return isFree(byteAt(row, column));
+    }
+
+    @Override
+    public boolean checkValidPath(int from, int to) {
+        int toRow = Position.rowOf(to);
+        int toColumn = Position.columnOf(to);
+        if (!checkValidMove(toRow, toColumn)){
+            return false;
+        }
+        int fromRow = Position.rowOf(from);
+        int fromColumn = Position.columnOf(from);
+        if (fromRow == toRow){
+            int step = Integer.signum(toColumn - fromColumn);
+            for (int column = fromColumn + step; column != toColumn; column += step){
+                if (!checkValidMove(toRow, column)){
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (fromColumn == toColumn){
+            int step = Integer.signum(toRow - fromRow);
+            for (int row = fromRow + step; row != toRow; row += step){
+                if (!checkValidMove(row, toColumn)){
+                    return false;
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isFinish(int row, int column) {
+        if ((row | column | rows - 1 - row | columns - 1 - column) < 0){
+            return false;
+        }
+        return byteAt(row, column) == '_';
+    }
+
+    @Override
+    public Position positionAt(int row, int column) {
+        return positions.of(row, column);
+    }
+
+    @Override
+    public DistanceField getDistanceField() {
+        DistanceField field = distanceField;
+        if (field == null){
+            field = new DistanceField(rows, columns,
+                    index -> isFree(byteAt(index / columns, index % columns)),
+                    index -> byteAt(index / columns, index % columns) == '_');
+            distanceField = field;
+        }
+        return field;
+    }
+
+    @Override
+    public int getRows(){
+        return rows;
+    }
+
+    @Override
+    public int getColumns(){
+        return columns;
+    }
+
+    /**
+     * The finish line is found by reading the whole file the first time it is requested.
+     * @return an unmodifiable list of positions where the finish line is placed.
+     */
+    @Override
+    public List<Position> getFinishLine() {
+        List<Position> finishLine = finishPositions;
+        if (finishLine == null){
+            List<Position> found = new ArrayList<>();
+            for (int row = 0; row < rows; row++){
+                for (int column = 0; column < columns; column++){
+                    if (byteAt(row, column) == '_'){
+                        found.add(positions.of(row, column));
+                    }
+                }
+            }
+            finishLine = Collections.unmodifiableList(found);
+            finishPositions = finishLine;
+        }
+        return finishLine;
+    }
+
+    @Override
+    public char cellAt(int row, int column) {
+        return (char) (byteAt(row, column) & 0xFF);
+    }
+
+    /**
+     * The character matrix is copied from the file every time it is requested.
+     * @return the track array.
+     */
+    @Override
+    public char[][] getTrack() {
+        char[][] view = new char[rows][columns];
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                view[row][column] = cellAt(row, column);
+            }
+        }
+        return view;
+    }
+
+}
@@ -0,0 +1,314 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.util.Arrays;
+
+/**
+ * This class indexes the occupied cells of a track, with the owner of every occupied cell,
+ * so checking if a cell is free takes the same time with two cars or with hundreds of them.
+ * Tracks with up to DENSE_LIMIT cells use an owner array with an entry for every cell,
+ * bigger tracks use an open addressing hash table of the packed positions, which only grows with the owners.
+ * Owners are non negative ints, such as the index of a car in its race, or the character drawn on the cell.
+ */
+public final class OccupancyIndex {
+
+    /**
+     * The owner of a free cell.
+     */
+    public static final int FREE = -1;
+
+    /**
+     * The maximum number of cells of a track indexed by an owner array, 256 KiB of owners,
+     * so a race on a big track does not allocate an owner for every cell.
+     */
+    public static final int DENSE_LIMIT = 1 << 16;
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int rows;
+    private final int columns;
+    private final int[] cells;
+    private int[] keys;
+    private int[] owners;
+    private int size;
+
+    /**
+     * Creates an empty index for a track of the given size.
+     * @param rows the number of rows of the track.
+     * @param columns the number of columns of the track.
+     * @throws IllegalArgumentException if a dimension is negative or does not fit in a packed position.
+     */
+    public OccupancyIndex(int rows, int columns){
+        if (rows < 0 || columns < 0 || rows > Short.MAX_VALUE + 1 || columns > Short.MAX_VALUE + 1){
+            throw new IllegalArgumentException("Invalid index dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        if ((long) rows * columns <= DENSE_LIMIT){
+            this.cells = new int[rows * columns];
+        } else {
+            this.cells = null;
+            this.keys = new int[INITIAL_CAPACITY];
+            this.owners = new int[INITIAL_CAPACITY];
+            Arrays.fill(keys, EMPTY);
+        }
+    }
+
+    /**
+     * Creates an empty index for a track.
+     * @param track the track whose cells are indexed.
+     */
+    public OccupancyIndex(iTrack track){
+        this(track.getRows(), track.getColumns());
+    }
+
+    /**
+     * @return true if the cells are indexed by an owner array, false if by a hash table.
+     */
+    public boolean isDense(){
+        return cells != null;
+    }
+
+    /**
+     * @param position the packed position of the cell.
+     * @return the owner of the cell, FREE if the cell is free or outside the track.
+     */
+    public int ownerAt(int position){
+        if (!contains(position)){
+            return FREE;
+        }
+        if (cells != null){
+            return cells[indexOf(position)] - 1;
+        }
+        int slot = slotOf(position);
+        return keys[slot] == EMPTY ? FREE : owners[slot];
+    }
+
+    /**
+     * @param position the packed position of the cell.
+     * @return true if the cell is occupied, false otherwise.
+     */
+    public boolean isOccupied(int position){
+        if (size == 0 || !contains(position)){
+            return false;
+        }
+        if (cells != null){
+            return cells[indexOf(position)] != 0;
+        }
+        return keys[slotOf(position)] != EMPTY;
+    }
+
+    /**
+     * Occupies a cell, replacing its previous owner.
+     * @param position the packed position of the cell.
+     * @param owner the owner of the cell.
+     * @throws IllegalArgumentException if the cell is outside the track, or the owner is negative.
+     */
+    public void occupy(int position, int owner){
+        if (!contains(position)){
+            throw new IllegalArgumentException("Cell outside the track: "
+                    + Position.rowOf(position) + "," + Position.columnOf(position));
+        }
+        if (owner < 0 || owner == Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Invalid owner: " + owner);
+        }
+        if (cells != null){
+            int index = indexOf(position);
+            if (cells[index] == 0){
+                size++;
+            }
+            cells[index] = owner + 1;
+            return;
+        }
+        int slot = slotOf(position);
+        if (keys[slot] == EMPTY){
+            if ((size + 1) * 2 > keys.length){
+                grow();
+                slot = slotOf(position);
+            }
+            keys[slot] = position;
+            size++;
+        }
+        owners[slot] = owner;
+    }
+
+    /**
+     * Frees a cell, nothing happens if it is already free or outside the track.
+     * @param position the packed position of the cell.
+     */
+    public void release(int position){
+        if (size == 0 || !contains(position)){
+            return;
+        }
+        if (cells != null){
+            int index = indexOf(position);
+            if (cells[index] != 0){
+                cells[index] = 0;
+                size--;
+            }
+            return;
+        }
+        int gap = slotOf(position);
+        if (keys[gap] == EMPTY){
+            return;
+        }
+        // SHIFT BACK THE FOLLOWING ENTRIES OF THE PROBE SEQUENCE, SO NO TOMBSTONES ARE NEEDED
+        int mask = keys.length - 1;
+        for (int slot = (gap + 1) & mask; keys[slot] != EMPTY; slot = (slot + 1) & mask){
+            int home = hash(keys[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)){
+                keys[gap] = keys[slot];
+                owners[gap] = owners[slot];
+                gap = slot;
+            }
+        }
+        keys[gap] = EMPTY;
+        size--;
+    }
+
+    /**
+     * Moves an owner from a cell to another, the cell it leaves becomes free.
+     * @param from the packed position of the cell left.
+     * @param to the packed position of the cell occupied.
+     * @param owner the owner which moves.
+     * @throws IllegalArgumentException if the new cell is outside the track, or the owner is negative.
+     */
+    public void move(int from, int to, int owner){
+        if (from != to){
+            release(from);
+        }
+        occupy(to, owner);
+    }
+
+    /**
+     * Calls the visitor for every occupied cell, in no particular order.
+     * @param visitor the visitor of the occupied cells.
+     */
+    public void forEach(OccupiedCellVisitor visitor){
+        if (size == 0){
+            return;
+        }
+        if (cells != null){
+            for (int index = 0; index < cells.length; index++){
+                if (cells[index] != 0){
+                    visitor.visit(Position.pack(index / columns, index % columns), cells[index] - 1);
+                }
+            }
+            return;
+        }
+        for (int slot = 0; slot < keys.length; slot++){
+            if (keys[slot] != EMPTY){
+                visitor.visit(keys[slot], owners[slot]);
+            }
+        }
+    }
+
+    /**
+     * @return the number of occupied cells.
+     */
+    public int size(){
+        return size;
+    }
+
+    /**
+     * @return true if no cell is occupied, false otherwise.
+     */
+    public boolean isEmpty(){
+        return size == 0;
+    }
+
+    /**
+     * Frees all the cells.
+     */
+    public void clear(){
+        if (cells != null){
+            Arrays.fill(cells, 0);
+        } else {
+            Arrays.fill(keys, EMPTY);
+        }
+        size = 0;
+    }
+
+    private boolean contains(int position){
+        int row = Position.rowOf(position);
+        int column = Position.columnOf(position);
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+
+    private int indexOf(int position){
+        return Position.rowOf(position) * columns + Position.columnOf(position);
+    }
+
+    /**
+     * Finds the slot of a position, or the empty slot where it would be stored.
+     */
+    private int slotOf(int position){
+        int mask = keys.length - 1;
+        int slot = hash(position) & mask;
+        while (keys[slot] != EMPTY && keys[slot] != position){
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private void grow(){
+        int[] oldKeys = keys;
+        int[] oldOwners = owners;
+        keys = new int[oldKeys.length * 2];
+        owners = new int[oldKeys.length * 2];
+        Arrays.fill(keys, EMPTY);
+        for (int slot = 0; slot < oldKeys.length; slot++){
+            if (oldKeys[slot] != EMPTY){
+                int newSlot = slotOf(oldKeys[slot]);
+                keys[newSlot] = oldKeys[slot];
+                owners[newSlot] = oldOwners[slot];
+            }
+        }
+    }
+
+    private static int hash(int position){
+        int hash = position * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * This interface is used to visit the occupied cells of an index.
+     */
+    @FunctionalInterface
+    public interface OccupiedCellVisitor {
+
+        /**
+         * Visits an occupied cell.
+         * @param position the packed position of the cell.
+         * @param owner the owner of the cell.
+         */
+        void visit(int position, int owner);
+    }
+
+}
@@ -0,0 +1,304 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import it.unicam.cs.mpmgc.formula1.api.utils.PositionTable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * This class represents a track stored as two flat bit planes instead of a character matrix.
+ * One plane marks the drivable cells ('.' and '_'), the other one marks the finish line cells ('_').
+ * Cell (row, column) is stored at bit row * columns + column, so the track is walked linearly in memory.
+ * A third plane stores the drivable cells column by column, so straight paths are always contiguous bits,
+ * and a cell costs 3 bits instead of 2 bytes.
+ */
+public class PackedTrack implements iTrack {
+
+    private final int rows;
+    private final int columns;
+    private final long[] drivable;
+    private final long[] drivableByColumn;
+    private final long[] finish;
+    private final List<Position> finishPositions;
+    private final PositionTable positions;
+    private volatile DistanceField distanceField;
+    private boolean created;
+
+    /**
+     * Creates a new PackedTrack instance with specified number of rows and columns.
+     * All the cells are walls until the track is created.
+     * @param rows the number of rows in the track.
+     * @param columns the number of columns in the track.
+     * @throws IllegalArgumentException if the dimensions are negative or too big to be indexed.
+     */
+    public PackedTrack(int rows, int columns){
+        if (rows < 0 || columns < 0 || (long) rows * columns > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Invalid track dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        int words = (rows * columns + 63) >>> 6;
+        this.drivable = new long[words];
+        this.drivableByColumn = new long[words];
+        this.finish = new long[words];
+        this.finishPositions = new ArrayList<>();
+        this.positions = new PositionTable(rows, columns);
+    }
+
+    /**
+     * Creates a PackedTrack from bit planes built before, for example stored in a binary track file,
+     * so the track is ready to be raced on without parsing any text.
+     * The arrays are not copied, and must not be changed afterwards.
+     * @param rows the number of rows in the track.
+     * @param columns the number of columns in the track.
+     * @param drivable the drivable cells plane, a cell is stored at bit row * columns + column.
+     * @param drivableByColumn the drivable cells plane, a cell is stored at bit column * rows + row.
+     * @param finishCells the index (row * columns + column) of every finish line cell.
+     * @param distances the distance of every cell from the finish line, or null to compute it when requested.
+     * @throws IllegalArgumentException if the dimensions are not valid, or an array does not match them.
+     */
+    public PackedTrack(int rows, int columns, long[] drivable, long[] drivableByColumn,
+                       int[] finishCells, int[] distances){
+        if (rows < 0 || columns < 0 || (long) rows * columns > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Invalid track dimensions: " + rows + "x" + columns);
+        }
+        int words = (rows * columns + 63) >>> 6;
+        if (drivable == null || drivableByColumn == null || finishCells == null
+                || drivable.length != words || drivableByColumn.length != words){
+            throw new IllegalArgumentException("Track planes do not match the track dimensions.");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.drivable = drivable;
+        this.drivableByColumn = drivableByColumn;
+        this.finish = new long[words];
+        this.finishPositions = new ArrayList<>(finishCells.length);
+        this.positions = new PositionTable(rows, columns);
+        for (int index : finishCells){
+            if (index < 0 || index >= rows * columns){
+                throw new IllegalArgumentException("Finish cell out of the track: " + index);
+            }
+            setBit(finish, index);
+            finishPositions.add(positions.of(index / columns, index % columns));
+        }
+        if (distances != null){
+            this.distanceField = new DistanceField(rows, columns, distances);
+        }
+        this.created = true;
+    }
+
+    /**
+     * Creates the track from a given List of strings.
+     * It also identifies and sets the final positions.
+     * A track is created only once, so a track shared by many games never changes under them.
+     * @param trackLines the lines of the track, a string for every row.
+     * @throws IllegalArgumentException if trackLines is null.
+     * @throws IllegalStateException if the track has already been created.
+     */
+    public void createTrack(List<String> trackLines) {
+        if (trackLines == null){
+            throw new IllegalArgumentException("Track Lines can't be Null.");
+        }
+        if (created){
+            throw new IllegalStateException("The track has already been created.");
+        }
+        for (int row = 0; row < rows ; row++){
+            String line = trackLines.get(row);
+            for (int column = 0; column < columns; column++ ){
+                createCell(row, column, line.charAt(column));
+            }
+        }
+        trackCreated();
+    }
+
+    /**
+     * Stores a cell of the track being created in the bit planes.
+     * @param row the row of the cell.
+     * @param column the column of the cell.
+     * @param cell the character of the cell.
+     */
+    void createCell(int row, int column, char cell){
+        if (cell == '_' || cell == '.'){
+            setBit(drivable, row * columns + column);
+            setBit(drivableByColumn, column * rows + row);
+        }
+        if (cell == '_'){
+            setBit(finish, row * columns + column);
+            finishPositions.add(positions.of(row, column));
+        }
+    }
+
+    /**
+     * Drops the data computed from the previous cells, once all the cells have been created,
+     * and marks the track as created, so it can not be created again.
+     */
+    void trackCreated(){
+        distanceField = null;
+        created = true;
+    }
+
+    /**
+     * Same rules of {@link Track#checkValidMove(int, int)}: the border rows and columns are never valid.
+     * The bounds are checked with a single sign test, then a single bit is read.
+     * @param row the row index of the cell to move to.
+     * @param column the column index of the cell to move to.
+     * @return true if the cell is free to move or final position, false otherwise.
+     */
+    @Override
+    public boolean checkValidMove(int row, int column) {
+        if ((row - 1 | column - 1 | rows - 1 - row | columns - 1 - column) < 0){
+            return false;
+        }
+        return isSet(drivable, row * columns + column);
+    }
+
+    /**
+     * The crossed cells of a row are contiguous bits of the drivable plane,
+     * and the crossed cells of a column are contiguous bits of the column plane,
+     * so the path is checked a whole word at a time with bit masks.
+     */
+    @Override
+    public boolean checkValidPath(int from, int to) {
+        int toRow = Position.rowOf(to);
+        int toColumn = Position.columnOf(to);
+        if (!checkValidMove(toRow, toColumn)){
+            return false;
+        }
+        int fromRow = Position.rowOf(from);
+        int fromColumn = Position.columnOf(from);
+        if (fromRow == toRow){
+            int first = Math.min(fromColumn, toColumn) + 1;
+            int last = Math.max(fromColumn, toColumn) - 1;
+            int base = toRow * columns;
+            return first > last || (first > 0 && last < columns && allSet(drivable, base + first, base + last));
+        }
+        if (fromColumn == toColumn){
+            int first = Math.min(fromRow, toRow) + 1;
+            int last = Math.max(fromRow, toRow) - 1;
+            int base = toColumn * rows;
+            return first > last || (first > 0 && last < rows && allSet(drivableByColumn, base + first, base + last));
+        }
+        return false;
+    }
+
+    @Override
+    public boolean isFinish(int row, int column) {
+        if ((row | column | rows - 1 - row | columns - 1 - column) < 0){
+            return false;
+        }
+        return isSet(finish, row * columns + column);
+    }
+
+    @Override
+    public Position positionAt(int row, int column) {
+        return positions.of(row, column);
+    }
+
+    @Override
+    public DistanceField getDistanceField() {
+        DistanceField field = distanceField;
+        if (field == null){
+            field = new DistanceField(rows, columns, index -> isSet(drivable, index), index -> isSet(finish, index));
+            distanceField = field;
+        }
+        return field;
+    }
+
+    @Override
+    public int getRows(){
+        return rows;
+    }
+
+    @Override
+    public int getColumns(){
+        return columns;
+    }
+
+    /**
+     * @return the finish line positions, as a list which can not be modified.
+     */
+    @Override
+    public List<Position> getFinishLine() {
+        return Collections.unmodifiableList(finishPositions);
+    }
+
+    @Override
+    public char cellAt(int row, int column) {
+        int index = row * columns + column;
+        if (isSet(finish, index)){
+            return '_';
+        }
+        return isSet(drivable, index) ? '.' : '#';
+    }
+
+    /**
+     * The character matrix is rebuilt from the bit planes every time it is requested.
+     * @return the track array.
+     */
+    @Override
+    public char[][] getTrack() {
+        char[][] view = new char[rows][columns];
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                view[row][column] = cellAt(row, column);
+            }
+        }
+        return view;
+    }
+
+    static void setBit(long[] plane, int index){
+        plane[index >>> 6] |= 1L << index;
+    }
+
+    static boolean isSet(long[] plane, int index){
+        return (plane[index >>> 6] & (1L << index)) != 0;
+    }
+
+    static boolean allSet(long[] plane, int first, int last){
+        int firstWord = first >>> 6;
+        int lastWord = last >>> 6;
+        long firstMask = -1L << first;
+        long lastMask = -1L >>> (63 - (last & 63));
+        if (firstWord == lastWord){
+            long mask = firstMask & lastMask;
+            return (plane[firstWord] & mask) == mask;
+        }
+        if ((plane[firstWord] & firstMask) != firstMask || (plane[lastWord] & lastMask) != lastMask){
+            return false;
+        }
+        for (int word = firstWord + 1; word < lastWord; word++){
+            if (plane[word] != -1L){
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.FileIO;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * This class keeps the most recently used tracks loaded, so setting up many games on the same track file
+ * reads and parses it only once.
+ * A track is identified by its file and representation, and it is loaded again when the file is modified.
+ * When the cache is full, the least recently used track is dropped.
+ * The cached tracks are shared by all the games which get them, so they must never be drawn on.
+ * The cache can be used by many threads.
+ */
+public final class TrackCache {
+
+    private static final int SHARED_CAPACITY = 16;
+    private static final TrackCache SHARED = new TrackCache(SHARED_CAPACITY);
+
+    private record Key(String location, TrackType trackType){}
+
+    private record Entry(iTrack track, long modified, long size){
+        boolean isCurrent(long modified, long size){
+            return this.modified == modified && this.size == size;
+        }
+    }
+
+    private final int capacity;
+    private final LinkedHashMap<Key, Entry> entries;
+
+    /**
+     * Creates an empty cache.
+     * @param capacity the maximum number of tracks kept loaded.
+     * @throws IllegalArgumentException if capacity is not positive.
+     */
+    public TrackCache(int capacity){
+        if (capacity <= 0){
+            throw new IllegalArgumentException("Cache capacity must be positive.");
+        }
+        this.capacity = capacity;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true){
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest){
+                return size() > TrackCache.this.capacity;
+            }
+        };
+    }
+
+    /**
+     * @return the cache shared by the whole process.
+     */
+    public static TrackCache shared(){
+        return SHARED;
+    }
+
+    /**
+     * Gets a track file from the cache, loading it if it is not cached or it was modified after it was cached.
+     * @param file the path of the track file.
+     * @param trackType the representation of the track.
+     * @return the shared track.
+     * @throws IOException if the file can't be read.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public iTrack get(Path file, TrackType trackType) throws IOException {
+        if (file == null || trackType == null){
+            throw new IllegalArgumentException("Track file and type can not be null.");
+        }
+        Path absolute = file.toAbsolutePath().normalize();
+        BasicFileAttributes attributes = Files.readAttributes(absolute, BasicFileAttributes.class);
+        long modified = attributes.lastModifiedTime().toMillis();
+        Key key = new Key(absolute.toString(), trackType);
+        iTrack cached = lookup(key, modified, attributes.size());
+        if (cached != null){
+            return cached;
+        }
+        return store(key, new Entry(TrackLoader.load(absolute, trackType), modified, attributes.size()));
+    }
+
+    /**
+     * Gets a track file from the cache, looking it up as FileIO does:
+     * first as a classpath resource, also inside a packaged jar, then as a filesystem path.
+     * @param file the name of the resource or the path of the track file.
+     * @param trackType the representation of the track.
+     * @return the shared track.
+     * @throws IOException if the file can't be found or read.
+     * @throws IllegalArgumentException if an argument is null.
+     */
+    public iTrack get(String file, TrackType trackType) throws IOException {
+        if (file == null || trackType == null){
+            throw new IllegalArgumentException("Track file and type can not be null.");
+        }
+        URL resource = TrackCache.class.getClassLoader().getResource(file);
+        if (resource == null){
+            return get(Path.of(file), trackType);
+        }
+        if ("file".equals(resource.getProtocol())){
+            try {
+                return get(Path.of(resource.toURI()), trackType);
+            } catch (URISyntaxException e){
+                throw new IOException("Invalid resource location: " + resource, e);
+            }
+        }
+        URLConnection connection = resource.openConnection();
+        long modified = connection.getLastModified();
+        long size = connection.getContentLengthLong();
+        Key key = new Key(resource.toString(), trackType);
+        iTrack cached = lookup(key, modified, size);
+        if (cached != null){
+            return cached;
+        }
+        List<String> lines;
+        try (InputStream input = connection.getInputStream()){
+            lines = new FileIO().readFile(input);
+        }
+        return store(key, new Entry(trackType.createTrack(lines), modified, size));
+    }
+
+    private synchronized iTrack lookup(Key key, long modified, long size){
+        Entry entry = entries.get(key);
+        return entry != null && entry.isCurrent(modified, size) ? entry.track() : null;
+    }
+
+    /**
+     * Stores a loaded track, unless another thread stored the same version of it while it was loading,
+     * so all the games always share a single instance of a track.
+     */
+    private synchronized iTrack store(Key key, Entry loaded){
+        Entry entry = entries.get(key);
+        if (entry != null && entry.isCurrent(loaded.modified(), loaded.size())){
+            return entry.track();
+        }
+        entries.put(key, loaded);
+        return loaded.track();
+    }
+
+    /**
+     * @return the number of tracks in the cache.
+     */
+    public synchronized int size(){
+        return entries.size();
+    }
+
+    /**
+     * Drops all the tracks from the cache.
+     */
+    public synchronized void clear(){
+        entries.clear();
+    }
+
+}
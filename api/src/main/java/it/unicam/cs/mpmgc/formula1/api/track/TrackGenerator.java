@@ -0,0 +1,201 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * This class generates closed circuits of any size, in the same text format of the track files.
+ * The circuit is a corridor of the given width running clockwise around a central wall.
+ * The cars start at the top of the left leg, at (1..width, 1) as for the track files,
+ * and the finish line is just below them, behind a wall, so a race goes around the whole circuit.
+ * The curvature is the number of bumps of the bottom leg, every bump adds four bends to the circuit.
+ * The track is made one row at a time from a few corridor rectangles,
+ * so it can be written to a file without keeping the whole track in memory.
+ */
+public class TrackGenerator {
+
+    private static final char WALL = '#';
+    private static final char FREE = '.';
+    private static final char FINISH = '_';
+
+    private final int rows;
+    private final int columns;
+    private final int width;
+    private final int finishLength;
+    private final List<int[]> corridors;
+
+    /**
+     * Creates a generator of circuits with the given shape.
+     * @param rows the number of rows of the track.
+     * @param columns the number of columns of the track.
+     * @param width the width of the corridor, which is also the number of starting positions.
+     * @param curvature the number of bumps of the bottom leg of the circuit.
+     * @param finishLength the number of finish line cells, from 1 to the corridor width.
+     * @throws IllegalArgumentException if the track is too small for the corridor width and curvature,
+     * or if the finish line length is not valid.
+     */
+    public TrackGenerator(int rows, int columns, int width, int curvature, int finishLength){
+        if (width < 1 || curvature < 0){
+            throw new IllegalArgumentException("Corridor width must be positive and curvature can not be negative.");
+        }
+        if (finishLength < 1 || finishLength > width){
+            throw new IllegalArgumentException("Finish line length must be between 1 and the corridor width.");
+        }
+        if (rows < 2 * width + 5 || columns < 2 * width + 3){
+            throw new IllegalArgumentException("Track is too small for the corridor width.");
+        }
+        int right = columns - 1 - width;
+        int bumpLength = (right - 1) / (2 * curvature + 1);
+        if (bumpLength <= width){
+            throw new IllegalArgumentException("Track is too narrow for the curvature.");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.width = width;
+        this.finishLength = finishLength;
+        this.corridors = new ArrayList<>();
+        traceCircuit(right, bumpLength, curvature);
+    }
+
+    /**
+     * Traces the circuit clockwise from the top left corner, as a list of corridor rectangles.
+     * Every leg goes from a corner to the next one, where a corner is the top left cell of a width x width square.
+     */
+    private void traceCircuit(int right, int bumpLength, int curvature){
+        int bottom = rows - 1 - width;
+        int raised = (width + 2 + bottom) / 2;
+        addLeg(1, 1, 1, right);
+        addLeg(1, right, bottom, right);
+        int column = right;
+        for (int bump = 0; bump < curvature; bump++){
+            addLeg(bottom, column, bottom, column - bumpLength);
+            column -= bumpLength;
+            addLeg(bottom, column, raised, column);
+            addLeg(raised, column, raised, column - bumpLength);
+            column -= bumpLength;
+            addLeg(raised, column, bottom, column);
+        }
+        addLeg(bottom, column, bottom, 1);
+        addLeg(bottom, 1, 1, 1);
+    }
+
+    private void addLeg(int fromRow, int fromColumn, int toRow, int toColumn){
+        corridors.add(new int[]{
+                Math.min(fromRow, toRow), Math.min(fromColumn, toColumn),
+                Math.max(fromRow, toRow) + width - 1, Math.max(fromColumn, toColumn) + width - 1});
+    }
+
+    /**
+     * Fills the given buffer with the cells of a track row.
+     * @param row the row to be filled.
+     * @param line the buffer, as long as a track row.
+     */
+    private void fillRow(int row, char[] line){
+        Arrays.fill(line, WALL);
+        for (int[] corridor : corridors){
+            if (row >= corridor[0] && row <= corridor[2]){
+                Arrays.fill(line, corridor[1], corridor[3] + 1, FREE);
+            }
+        }
+        if (row == width + 1){
+            Arrays.fill(line, 1, width + 1, WALL);
+        }
+        if (row == width + 2){
+            Arrays.fill(line, 1, finishLength + 1, FINISH);
+        }
+    }
+
+    /**
+     * Generates the track lines.
+     * @return the track lines, in the format read from the track files.
+     */
+    public List<String> generate(){
+        List<String> lines = new ArrayList<>(rows);
+        char[] line = new char[columns];
+        for (int row = 0; row < rows; row++){
+            fillRow(row, line);
+            lines.add(new String(line));
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the track lines one at a time, each one followed by a new line.
+     * @param writer the writer of the track lines, it is not closed.
+     * @throws IOException if the lines can't be written.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        char[] line = new char[columns];
+        for (int row = 0; row < rows; row++){
+            fillRow(row, line);
+            writer.write(line);
+            writer.write('\n');
+        }
+        writer.flush();
+    }
+
+    /**
+     * Writes the track to a text file, which can then be loaded as any other track file.
+     * @param file the path of the file to be written.
+     * @throws IOException if the file can't be written.
+     */
+    public void writeTo(Path file) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file)){
+            writeTo(writer);
+        }
+    }
+
+    /**
+     * Generates the track directly into a new track of the given representation.
+     * @param trackType the representation of the track.
+     * @return the created track.
+     */
+    public iTrack createTrack(TrackType trackType){
+        return trackType.createTrack(generate());
+    }
+
+    /**
+     * @return the number of rows of the generated tracks.
+     */
+    public int getRows(){
+        return rows;
+    }
+
+    /**
+     * @return the number of columns of the generated tracks.
+     */
+    public int getColumns(){
+        return columns;
+    }
+
+}
@@ -0,0 +1,188 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * This class loads a track file straight into a track, in the same text format read by FileIO.
+ * The file bytes are read through a FileChannel into a single reused buffer,
+ * and every byte is stored in the track as soon as it is read,
+ * so neither the file lines nor a copy of them are ever built.
+ * All the lines must have the same length, and may end with "\n" or "\r\n".
+ */
+public final class TrackLoader {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    @FunctionalInterface
+    private interface CellWriter {
+        void write(int row, int column, char cell);
+    }
+
+    private TrackLoader(){}
+
+    /**
+     * Loads a track file into a new track of the given representation.
+     * @param file the path of the track file.
+     * @param trackType the representation of the track.
+     * @return the loaded track, ready to be raced on.
+     * @throws IOException if the file can't be read.
+     * @throws IllegalArgumentException if an argument is null.
+     * @throws IllegalStateException if the file is empty or its lines have different lengths.
+     */
+    public static iTrack load(Path file, TrackType trackType) throws IOException {
+        if (file == null){
+            throw new IllegalArgumentException("Track file can not be null.");
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)){
+            return load(channel, trackType);
+        }
+    }
+
+    /**
+     * Loads a track from the current position of a channel up to its end, into a new track of the given representation.
+     * The dimensions are found from the first line and the channel size, then the whole track is read in one pass.
+     * @param channel the channel of the track file, it is not closed.
+     * @param trackType the representation of the track.
+     * @return the loaded track, ready to be raced on.
+     * @throws IOException if the channel can't be read.
+     * @throws IllegalArgumentException if an argument is null.
+     * @throws IllegalStateException if the channel is empty or its lines have different lengths.
+     */
+    public static iTrack load(FileChannel channel, TrackType trackType) throws IOException {
+        if (channel == null || trackType == null){
+            throw new IllegalArgumentException("Track channel and type can not be null.");
+        }
+        long start = channel.position();
+        long size = channel.size() - start;
+        if (size <= 0){
+            throw new IllegalStateException("Track file is empty.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) Math.min(size, BUFFER_SIZE));
+        long newLine = findNewLine(channel, buffer, start);
+        long columns = size;
+        int lineBreak = 0;
+        if (newLine >= 0){
+            lineBreak = newLine > 0 && readByte(channel, start + newLine - 1) == '\r' ? 2 : 1;
+            columns = newLine + 1 - lineBreak;
+        }
+        long stride = columns + lineBreak;
+        long rows = (size + lineBreak) / stride;
+        if ((size % stride != 0 && (size + lineBreak) % stride != 0) || rows * columns > Integer.MAX_VALUE){
+            throw new IllegalStateException("Track lines must all have the same length.");
+        }
+
+        channel.position(start);
+        switch (trackType) {
+            case PACKED : {
+                PackedTrack track = new PackedTrack((int) rows, (int) columns);
+                readCells(channel, buffer, (int) rows, (int) columns, track::createCell);
+                track.trackCreated();
+                return track;
+            }
+            default : {
+                Track track = new Track((int) rows, (int) columns);
+                readCells(channel, buffer, (int) rows, (int) columns, track::createCell);
+                track.trackCreated();
+                return track;
+            }
+        }
+    }
+
+    /**
+     * Finds the first new line of the channel, reading it from the given position.
+     * @return the offset of the first "\n" from the given position, -1 if there is none.
+     */
+    private static long findNewLine(FileChannel channel, ByteBuffer buffer, long start) throws IOException {
+        byte[] bytes = buffer.array();
+        long offset = 0;
+        int read;
+        buffer.clear();
+        while ((read = channel.read(buffer, start + offset)) > 0){
+            for (int i = 0; i < read; i++){
+                if (bytes[i] == '\n'){
+                    return offset + i;
+                }
+            }
+            offset += read;
+            buffer.clear();
+        }
+        return -1;
+    }
+
+    private static byte readByte(FileChannel channel, long position) throws IOException {
+        ByteBuffer single = ByteBuffer.allocate(1);
+        channel.read(single, position);
+        return single.get(0);
+    }
+
+    /**
+     * Reads every cell of the track from the channel in row major order, and writes it to the track.
+     * Line breaks must come exactly after the last column of every row.
+     */
+    private static void readCells(FileChannel channel, ByteBuffer buffer, int rows, int columns, CellWriter cells)
+            throws IOException {
+        byte[] bytes = buffer.array();
+        int row = 0;
+        int column = 0;
+        int read;
+        buffer.clear();
+        while ((read = channel.read(buffer)) > 0){
+            for (int i = 0; i < read; i++){
+                byte cell = bytes[i];
+                if (cell == '\n'){
+                    checkLineEnd(column, columns);
+                    row++;
+                    column = 0;
+                } else if (cell != '\r'){
+                    if (column == columns || row == rows){
+                        throw new IllegalStateException("Track lines must all have the same length.");
+                    }
+                    cells.write(row, column++, (char) (cell & 0xFF));
+                }
+            }
+            buffer.clear();
+        }
+        if (column > 0){
+            checkLineEnd(column, columns);
+            row++;
+        }
+        if (row != rows){
+            throw new IllegalStateException("Track lines must all have the same length.");
+        }
+    }
+
+    private static void checkLineEnd(int column, int columns){
+        if (column != columns){
+            throw new IllegalStateException("Track lines must all have the same length.");
+        }
+    }
+
+}
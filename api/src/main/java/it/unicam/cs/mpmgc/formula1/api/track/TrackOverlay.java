@@ -0,0 +1,157 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import java.util.List;
+
+/**
+ * This class represents the track of a single race, made of a base track shared with other races,
+ * which is never changed, and of the markers drawn over it, such as the initials of the cars.
+ * The markers are kept in an OccupancyIndex, whose owners are the characters drawn on the cells.
+ * A marked cell is occupied, so it is not a valid move, as a cell with a car on it,
+ * and the check takes the same time however many cars race on the track,
+ * while all the other data of the track is read from the base track.
+ */
+public class TrackOverlay implements iTrack {
+
+    private final iTrack base;
+    private final OccupancyIndex markers;
+
+    /**
+     * Creates an overlay without markers over a base track.
+     * @param base the track shared by the races.
+     * @throws IllegalArgumentException if base is null.
+     */
+    public TrackOverlay(iTrack base){
+        if (base == null){
+            throw new IllegalArgumentException("Base track can not be null.");
+        }
+        this.base = base instanceof TrackOverlay overlay ? overlay.getBase() : base;
+        this.markers = new OccupancyIndex(this.base);
+    }
+
+    /**
+     * @return the base track, shared by the races.
+     */
+    public iTrack getBase(){
+        return base;
+    }
+
+    /**
+     * @return the index of the marked cells, whose owners are the markers.
+     */
+    public OccupancyIndex getMarkers(){
+        return markers;
+    }
+
+    /**
+     * Draws a marker on a cell, replacing the previous marker of the same cell.
+     * @param row the row index of the cell.
+     * @param column the column index of the cell.
+     * @param marker the character drawn on the cell.
+     * @throws IllegalArgumentException if the cell is outside the track.
+     */
+    public void placeMarker(int row, int column, char marker){
+        markers.occupy(Position.pack(row, column), marker);
+    }
+
+    /**
+     * Removes the marker of a cell, so the cell of the base track shows again.
+     * @param row the row index of the cell.
+     * @param column the column index of the cell.
+     */
+    public void clearMarker(int row, int column){
+        markers.release(Position.pack(row, column));
+    }
+
+    /**
+     * @param row the row index of the cell.
+     * @param column the column index of the cell.
+     * @return true if a marker is drawn on the cell, false otherwise.
+     */
+    public boolean isMarked(int row, int column){
+        return markers.isOccupied(Position.pack(row, column));
+    }
+
+    @Override
+    public boolean checkValidMove(int row, int column) {
+        return base.checkValidMove(row, column) && !isMarked(row, column);
+    }
+
+    @Override
+    public boolean checkValidPath(int from, int to) {
+        return base.checkValidPath(from, to) && !markers.isOccupied(to);
+    }
+
+    @Override
+    public boolean isFinish(int row, int column) {
+        return base.isFinish(row, column);
+    }
+
+    @Override
+    public Position positionAt(int row, int column) {
+        return base.positionAt(row, column);
+    }
+
+    @Override
+    public DistanceField getDistanceField() {
+        return base.getDistanceField();
+    }
+
+    @Override
+    public int getRows() {
+        return base.getRows();
+    }
+
+    @Override
+    public int getColumns() {
+        return base.getColumns();
+    }
+
+    @Override
+    public List<Position> getFinishLine() {
+        return base.getFinishLine();
+    }
+
+    @Override
+    public char cellAt(int row, int column) {
+        int marker = markers.ownerAt(Position.pack(row, column));
+        return marker == OccupancyIndex.FREE ? base.cellAt(row, column) : (char) marker;
+    }
+
+    /**
+     * @return a copy of the base track array, with the markers drawn on it.
+     */
+    @Override
+    public char[][] getTrack() {
+        char[][] view = base.getTrack();
+        markers.forEach((position, marker) ->
+                view[Position.rowOf(position)][Position.columnOf(position)] = (char) marker);
+        return view;
+    }
+
+}
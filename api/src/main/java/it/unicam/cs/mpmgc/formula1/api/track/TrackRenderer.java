@@ -26,19 +26,23 @@
 package it.unicam.cs.mpmgc.formula1.api.track;
 
 import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
 /**
  * This class provides methods for rendering and updating the track.
  */
 public class TrackRenderer {
 
+    private ConsoleTrackRenderer console;
+
     /**
      * Creates a new instance of the class.
      */
     public TrackRenderer(){};
 
     /**
-     * Displays the whole track in console.
+     * Displays the whole track in console, with a single write for the whole frame,
+     * using a ConsoleTrackRenderer whose buffer is reused by the next calls.
      * @param track the track to be displayed.
      * @throws IllegalArgumentException if the provided track is null.
      */
@@ -46,38 +50,34 @@ public class TrackRenderer {
         if (track == null){
             throw new IllegalArgumentException("Track can't be null.");
         }
-        char[][] trackFormat = track.getTrack();
-        for (char[] row : trackFormat) {
-            for (char cell : row) {
-                System.out.print(cell);
-            }
-            System.out.println();
+        if (console == null){
+            console = new ConsoleTrackRenderer(System.out);
         }
+        console.render(track);
     }
 
     /**
-     * Places a player on the track by placing the player's name first letter in Uppercase
-     * in its position on the track matrix.
+     * Places a player on the track by drawing the player's name first letter in Uppercase
+     * in its position on the track overlay, the shared base track is not changed.
      * @param player the player to be placed.
-     * @param track the track where the player is placed.
+     * @param track the overlay of the race where the player is placed.
      */
-    public void placePlayer(iCar player, iTrack track) {
-        int row = player.getCurrentPosition().getRow();
-        int column = player.getCurrentPosition().getColumn();
-        track.getTrack()[row][column] = player.getName().toUpperCase().charAt(0);
+    public void placePlayer(iCar player, TrackOverlay track) {
+        int position = player.getPackedPosition();
+        track.placeMarker(Position.rowOf(position), Position.columnOf(position),
+                player.getName().toUpperCase().charAt(0));
     }
 
     /**
-     * Clears the player position on track matrix by changing its letter with '.' character
-     * to indicate a free position on track matrix.
+     * Clears the player position on the track overlay by removing its letter,
+     * so the cell shows again as in the base track, also if it is a finish line cell.
      * This is used before making the player's next move.
-     * @param player the player position to be reset into '.',
-     * @param track the track where we apply the changes.
+     * @param player the player whose position is cleared.
+     * @param track the overlay of the race where we apply the changes.
      */
-    public void clearPlayerPosition(iCar player, iTrack track) {
-        int row = player.getCurrentPosition().getRow();
-        int column = player.getCurrentPosition().getColumn();
-        track.getTrack()[row][column] = '.';
+    public void clearPlayerPosition(iCar player, TrackOverlay track) {
+        int position = player.getPackedPosition();
+        track.clearMarker(Position.rowOf(position), Position.columnOf(position));
     }
 
 }
@@ -0,0 +1,74 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.track;
+
+import java.util.List;
+
+/**
+ * This enum represents the available in-memory representations of a track.
+ */
+public enum TrackType {
+
+    /**
+     * The track is stored as a 2D character matrix, see {@link Track}.
+     */
+    MATRIX,
+    /**
+     * The track is stored as flat bit planes, see {@link PackedTrack}.
+     */
+    PACKED;
+
+    /**
+     * Creates a track of this representation from its lines,
+     * the number of columns is the length of the first line.
+     * @param trackLines the lines of the track, a string for every row.
+     * @return the created track.
+     * @throws IllegalArgumentException if trackLines is null.
+     * @throws IllegalStateException if trackLines is empty.
+     */
+    public iTrack createTrack(List<String> trackLines){
+        if (trackLines == null){
+            throw new IllegalArgumentException("Track Lines can't be Null.");
+        }
+        if (trackLines.isEmpty()){
+            throw new IllegalStateException("Track file is empty.");
+        }
+        int rows = trackLines.size();
+        int columns = trackLines.get(0).length();
+        switch (this) {
+            case PACKED : {
+                PackedTrack track = new PackedTrack(rows, columns);
+                track.createTrack(trackLines);
+                return track;
+            }
+            default : {
+                Track track = new Track(rows, columns);
+                track.createTrack(trackLines);
+                return track;
+            }
+        }
+    }
+}
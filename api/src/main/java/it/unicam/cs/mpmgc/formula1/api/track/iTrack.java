@@ -31,23 +31,73 @@ import java.util.List;
 
 
 /**
- * This interface provides the needed methods to create a track, and access its data.
+ * This interface provides the needed methods to access the data of a track.
+ * A track is read only, it is created by its own class, see {@link TrackType#createTrack(List)}.
  */
 public interface iTrack {
 
-    /**
-     * Creates the track from a given List of strings.
-     * It also identifies and sets the final positions.
-     */
-    void createTrack(List<String> trackLines);
-
     /**
      * Checks if a Position on the track is valid for a move or not.
      * @param move the position to move to.
      * @return true if position is free to move or final position.
      *         false if position is out of bounds or occupied.
      */
-    boolean checkValidMove(Position move);
+    default boolean checkValidMove(Position move){
+        return checkValidMove(move.getRow(), move.getColumn());
+    }
+
+    /**
+     * Checks if a cell on the track is valid for a move or not, without any Position object.
+     * @param row the row index of the cell to move to.
+     * @param column the column index of the cell to move to.
+     * @return true if the cell is free to move or final position.
+     *         false if the cell is out of bounds or occupied.
+     */
+    boolean checkValidMove(int row, int column);
+
+    /**
+     * Checks if a car can move on a straight line from a position to another one,
+     * so every cell crossed after the starting one must be free, and the landing cell must be a valid move.
+     * @param from the position the car moves from.
+     * @param to the position the car moves to.
+     * @return true if the whole path is free and the landing position is valid,
+     *         false if a crossed cell is a wall, the landing position is not valid, or the path is not straight.
+     */
+    default boolean checkValidPath(Position from, Position to){
+        return checkValidPath(from.pack(), to.pack());
+    }
+
+    /**
+     * Same check of checkValidPath(Position, Position), with positions packed by Position.pack().
+     * @param from the packed position the car moves from.
+     * @param to the packed position the car moves to.
+     * @return true if the whole path is free and the landing position is valid, false otherwise.
+     */
+    boolean checkValidPath(int from, int to);
+
+    /**
+     * Checks if a cell of the track belongs to the finish line, without allocating.
+     * @param row the row index of the cell.
+     * @param column the column index of the cell.
+     * @return true if the cell is a finish line cell, false otherwise or if out of bounds.
+     */
+    boolean isFinish(int row, int column);
+
+    /**
+     * Gets the position with the given coordinates from the flyweight table of the track,
+     * so moving on the track does not allocate new positions.
+     * @param row the row index of the position.
+     * @param column the column index of the position.
+     * @return the shared position if it is inside the track, a new position otherwise.
+     */
+    Position positionAt(int row, int column);
+
+    /**
+     * Gets the distance of every cell from the finish line.
+     * It is computed the first time it is requested, then the same instance is returned.
+     * @return the distance field of the track.
+     */
+    DistanceField getDistanceField();
 
     /**
      * @return the number of rows of the trackFormat.
@@ -65,6 +115,15 @@ public interface iTrack {
     List<Position> getFinishLine();
 
     /**
+     * Gets the character of a cell, as in the track files, without copying the track.
+     * @param row the row index of the cell, inside the track.
+     * @param column the column index of the cell, inside the track.
+     * @return the character of the cell.
+     */
+    char cellAt(int row, int column);
+
+    /**
+     * Gets a copy of the track as a character matrix, so it can be drawn on without changing the track.
      * @return the track array.
      */
     char[][] getTrack();
@@ -0,0 +1,202 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api.utils;
+
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackLoader;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+
+/**
+ * This class reads and writes tracks in a compact binary format, so a track parsed once from its text file
+ * can be loaded again, ready to be raced on, by reading a few arrays.
+ * All the values are big endian, and the file is made of:
+ * a header with the format tag, the format version, the rows, the columns and the number of finish cells;
+ * the drivable cells as a bit plane by rows and as a bit plane by columns, see {@link PackedTrack};
+ * the index (row * columns + column) of every finish line cell;
+ * the distance field, one int per cell;
+ * the CRC32 of all the previous bytes.
+ */
+public final class BinaryTrackIO {
+
+    /**
+     * The tag at the start of every binary track file, "F1BT".
+     */
+    public static final int MAGIC = 0x46314254;
+
+    /**
+     * The version of the binary format written by this class.
+     */
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 5 * Integer.BYTES;
+
+    private BinaryTrackIO(){}
+
+    /**
+     * Converts a track text file, in the format read by FileIO, into a binary track file.
+     * @param textFile the path of the text file to be read.
+     * @param binaryFile the path of the binary file to be written.
+     * @throws IOException if a file can't be read or written.
+     */
+    public static void convert(Path textFile, Path binaryFile) throws IOException {
+        write(TrackLoader.load(textFile, TrackType.PACKED), binaryFile);
+    }
+
+    /**
+     * Writes a track to a binary track file.
+     * @param track the track to be written, without players drawn on it.
+     * @param binaryFile the path of the binary file to be written.
+     * @throws IOException if the file can't be written.
+     */
+    public static void write(iTrack track, Path binaryFile) throws IOException {
+        Files.write(binaryFile, encode(track).array());
+    }
+
+    /**
+     * Encodes a track in the binary format.
+     * The border rows and columns are stored as walls, as they can never be moved to.
+     * @param track the track to be encoded, without players drawn on it.
+     * @return the encoded track, from position 0 to its capacity.
+     * @throws IllegalArgumentException if track is null.
+     */
+    public static ByteBuffer encode(iTrack track){
+        if (track == null){
+            throw new IllegalArgumentException("Track can not be null.");
+        }
+        int rows = track.getRows();
+        int columns = track.getColumns();
+        int cells = rows * columns;
+        int words = (cells + 63) >>> 6;
+        long[] drivable = new long[words];
+        long[] drivableByColumn = new long[words];
+        int finishCount = 0;
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                if (track.checkValidMove(row, column)){
+                    int index = row * columns + column;
+                    int columnIndex = column * rows + row;
+                    drivable[index >>> 6] |= 1L << index;
+                    drivableByColumn[columnIndex >>> 6] |= 1L << columnIndex;
+                }
+                if (track.isFinish(row, column)){
+                    finishCount++;
+                }
+            }
+        }
+
+        long size = HEADER_BYTES + 2L * words * Long.BYTES + (long) finishCount * Integer.BYTES
+                + (long) cells * Integer.BYTES + Integer.BYTES;
+        if (size > Integer.MAX_VALUE){
+            throw new IllegalArgumentException("Track is too big for the binary format.");
+        }
+        ByteBuffer buffer = ByteBuffer.allocate((int) size);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(rows).putInt(columns).putInt(finishCount);
+        buffer.asLongBuffer().put(drivable).put(drivableByColumn);
+        buffer.position(buffer.position() + 2 * words * Long.BYTES);
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                if (track.isFinish(row, column)){
+                    buffer.putInt(row * columns + column);
+                }
+            }
+        }
+        DistanceField distances = track.getDistanceField();
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                buffer.putInt(distances.distanceAt(row, column));
+            }
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.flip();
+    }
+
+    /**
+     * Reads a binary track file.
+     * @param binaryFile the path of the binary file to be read.
+     * @return the track, with its distance field already computed.
+     * @throws IOException if the file can't be read.
+     * @throws IllegalStateException if the file is not a valid binary track file, or it is corrupted.
+     */
+    public static PackedTrack read(Path binaryFile) throws IOException {
+        return decode(ByteBuffer.wrap(Files.readAllBytes(binaryFile)));
+    }
+
+    /**
+     * Decodes a track in the binary format, from the position of a buffer up to its limit.
+     * The checksum is verified before anything else is read.
+     * @param buffer the encoded track.
+     * @return the track, with its distance field already computed.
+     * @throws IllegalStateException if the buffer is not a valid binary track, or it is corrupted.
+     */
+    public static PackedTrack decode(ByteBuffer buffer){
+        int start = buffer.position();
+        int length = buffer.remaining();
+        if (length < HEADER_BYTES + Integer.BYTES){
+            throw new IllegalStateException("Binary track is truncated.");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(start, length - Integer.BYTES));
+        if ((int) crc.getValue() != buffer.getInt(start + length - Integer.BYTES)){
+            throw new IllegalStateException("Binary track is corrupted, checksum does not match.");
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION){
+            throw new IllegalStateException("Not a binary track of version " + VERSION + ".");
+        }
+        int rows = buffer.getInt();
+        int columns = buffer.getInt();
+        int finishCount = buffer.getInt();
+        long cells = (long) rows * columns;
+        if (rows < 0 || columns < 0 || finishCount < 0 || cells > Integer.MAX_VALUE
+                || length != HEADER_BYTES + 2 * ((cells + 63) >>> 6) * Long.BYTES
+                        + ((long) finishCount + cells + 1) * Integer.BYTES){
+            throw new IllegalStateException("Binary track header does not match its size.");
+        }
+        int words = (int) ((cells + 63) >>> 6);
+        long[] drivable = new long[words];
+        long[] drivableByColumn = new long[words];
+        int[] finishCells = new int[finishCount];
+        int[] distances = new int[(int) cells];
+        buffer.asLongBuffer().get(drivable).get(drivableByColumn);
+        buffer.position(buffer.position() + 2 * words * Long.BYTES);
+        buffer.asIntBuffer().get(finishCells).get(distances);
+        buffer.position(start + length);
+        try {
+            return new PackedTrack(rows, columns, drivable, drivableByColumn, finishCells, distances);
+        } catch (IllegalArgumentException e){
+            throw new IllegalStateException("Binary track is not valid.", e);
+        }
+    }
+
+}
@@ -25,6 +25,10 @@
 
 package it.unicam.cs.mpmgc.formula1.api.utils;
 
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
@@ -52,15 +56,56 @@ public class FileIO {
 
     /**
      * reads a file, and saves its data in a fileLines variable.
-     * @param file the name of the file to read.
+     * The file is first looked up as a classpath resource, also inside a packaged jar,
+     * then as a filesystem path, absolute or relative to the working directory.
+     * @param file the name of the resource or the path of the file to read.
      * @return fileLines variable that contains the read data.
      * @throws RuntimeException if the file can't be found or read.
      */
     public List<String> readFile(String file){
-        List<String> fileLines;
+        try (InputStream resource = getClass().getClassLoader().getResourceAsStream(file)){
+            if (resource != null){
+                return readFile(resource);
+            }
+            return readFile(Path.of(file));
+        } catch (RuntimeException e){
+            throw e;
+        } catch (Exception e){
+            throw new RuntimeException("Error reading the file", e);
+        }
+    }
+
+    /**
+     * reads a file from the filesystem, and saves its data in a fileLines variable.
+     * @param file the path of the file to read.
+     * @return fileLines variable that contains the read data.
+     * @throws RuntimeException if the file can't be found or read.
+     */
+    public List<String> readFile(Path file){
+        try (InputStream input = Files.newInputStream(file)){
+            return readFile(input);
+        } catch (RuntimeException e){
+            throw e;
+        } catch (Exception e){
+            throw new RuntimeException("Error reading the file", e);
+        }
+    }
+
+    /**
+     * reads the lines of a stream up to its end, one at a time, and saves them in a fileLines variable.
+     * The stream is decoded as UTF-8, and it is not closed.
+     * @param input the stream to read.
+     * @return fileLines variable that contains the read data.
+     * @throws RuntimeException if the stream can't be read.
+     */
+    public List<String> readFile(InputStream input){
+        List<String> fileLines = new ArrayList<>();
         try {
-            Path filePath = Path.of(getClass().getClassLoader().getResource(file).toURI());
-            fileLines = Files.readAllLines(filePath);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null){
+                fileLines.add(line);
+            }
         } catch (Exception e){
             throw new RuntimeException("Error reading the file", e);
         }
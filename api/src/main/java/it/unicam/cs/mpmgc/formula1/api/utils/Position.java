@@ -31,6 +31,8 @@ package it.unicam.cs.mpmgc.formula1.api.utils;
 
 public final class Position {
 
+    private static final PositionTable SMALL_POSITIONS = new PositionTable(256, 256);
+
     private final int row;
     private final int column;
 
@@ -44,6 +46,54 @@ public final class Position {
         this.column = column;
     }
 
+    /**
+     * Gets a position with specific coordinates, reusing the same instance for the coordinates
+     * between 0 and 255, which covers the common tracks.
+     * The positions of bigger tracks are shared by the track itself, see iTrack.positionAt(),
+     * which is used by the cars, this table is only a fallback for the positions without a track.
+     * @param row the row index of the position.
+     * @param column the column index of the position.
+     * @return the position with the given coordinates.
+     */
+    public static Position of(int row, int column){
+        return SMALL_POSITIONS.of(row, column);
+    }
+
+    /**
+     * Packs the coordinates of a position in a single int, as row * 65536 + column,
+     * so hot paths can pass positions around without objects.
+     * Both coordinates must be between -32768 and 32767.
+     * @param row the row index of the position.
+     * @param column the column index of the position.
+     * @return the packed position.
+     */
+    public static int pack(int row, int column){
+        return (row << 16) | (column & 0xFFFF);
+    }
+
+    /**
+     * @param packedPosition a position packed by pack().
+     * @return row index of the packed position.
+     */
+    public static int rowOf(int packedPosition){
+        return packedPosition >> 16;
+    }
+
+    /**
+     * @param packedPosition a position packed by pack().
+     * @return column index of the packed position.
+     */
+    public static int columnOf(int packedPosition){
+        return (short) packedPosition;
+    }
+
+    /**
+     * @return this position packed in a single int, see pack().
+     */
+    public int pack(){
+        return pack(row, column);
+    }
+
     /**
      * @return row index of the position.
      */
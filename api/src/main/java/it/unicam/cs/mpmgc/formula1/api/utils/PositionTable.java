@@ -0,0 +1,80 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api.utils;
+
+/**
+ * This class is a flyweight table of the positions of a grid.
+ * Every position inside the grid is created the first time it is requested, then the same instance is returned,
+ * so moving on the grid does not allocate new positions.
+ * The rows of the table are allocated lazily, so a big grid only pays for the rows which are visited.
+ * Positions are immutable, so the table can be read by many threads, but two threads may occasionally
+ * get different instances of the same position, positions must always be compared with equals.
+ */
+public final class PositionTable {
+
+    private final int rows;
+    private final int columns;
+    private final Position[][] positions;
+
+    /**
+     * Creates an empty table for a grid of the given size.
+     * @param rows the number of rows of the grid.
+     * @param columns the number of columns of the grid.
+     * @throws IllegalArgumentException if a dimension is negative.
+     */
+    public PositionTable(int rows, int columns){
+        if (rows < 0 || columns < 0){
+            throw new IllegalArgumentException("Invalid table dimensions: " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.positions = new Position[rows][];
+    }
+
+    /**
+     * Gets the position with the given coordinates.
+     * @param row the row index of the position.
+     * @param column the column index of the position.
+     * @return the shared position if it is inside the grid, a new position otherwise.
+     */
+    public Position of(int row, int column){
+        if (row < 0 || row >= rows || column < 0 || column >= columns){
+            return new Position(row, column);
+        }
+        Position[] rowPositions = positions[row];
+        if (rowPositions == null){
+            rowPositions = new Position[columns];
+            positions[row] = rowPositions;
+        }
+        Position position = rowPositions[column];
+        if (position == null){
+            position = new Position(row, column);
+            rowPositions[column] = position;
+        }
+        return position;
+    }
+
+}
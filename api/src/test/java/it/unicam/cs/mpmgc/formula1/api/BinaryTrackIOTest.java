@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.BinaryTrackIO;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryTrackIOTest {
+
+    private Path textFile;
+    private Path binaryFile;
+
+    @BeforeEach
+    public void binarySetUp() throws IOException {
+        textFile = Files.createTempFile("track", ".txt");
+        binaryFile = Files.createTempFile("track", ".f1bt");
+    }
+
+    @AfterEach
+    public void binaryTearDown() throws IOException {
+        Files.deleteIfExists(textFile);
+        Files.deleteIfExists(binaryFile);
+    }
+
+    @Test
+    public void testConvertAndRead() throws IOException {
+        TrackGenerator generator = new TrackGenerator(50, 70, 4, 2, 3);
+        generator.writeTo(textFile);
+        BinaryTrackIO.convert(textFile, binaryFile);
+        iTrack expected = generator.createTrack(TrackType.MATRIX);
+        PackedTrack loaded = BinaryTrackIO.read(binaryFile);
+
+        assertEquals(50, loaded.getRows());
+        assertEquals(70, loaded.getColumns());
+        assertEquals(expected.getFinishLine(), loaded.getFinishLine());
+        assertArrayEquals(expected.getTrack(), loaded.getTrack());
+        for (int row = 0; row < 50; row++){
+            for (int column = 0; column < 70; column++){
+                assertEquals(expected.checkValidMove(row, column), loaded.checkValidMove(row, column));
+                assertEquals(expected.isFinish(row, column), loaded.isFinish(row, column));
+                assertEquals(expected.getDistanceField().distanceAt(row, column),
+                        loaded.getDistanceField().distanceAt(row, column));
+                assertEquals(expected.checkValidPath(Position.pack(row, column), Position.pack(row + 3, column)),
+                        loaded.checkValidPath(Position.pack(row, column), Position.pack(row + 3, column)));
+            }
+        }
+    }
+
+    @Test
+    public void testRaceOnLoadedTrack() throws IOException {
+        Files.write(textFile, new TrackGenerator(20, 20, 3, 0, 3).generate());
+        BinaryTrackIO.convert(textFile, binaryFile);
+        GameSetup setup = new GameSetup(TrackType.PACKED, new SplittableRandom(1));
+        setup.loadGame("botsOnly.txt", BinaryTrackIO.read(binaryFile));
+
+        assertEquals(2, setup.getPlayers().size());
+        assertDoesNotThrow(() -> new RaceEngine(setup).run(50));
+    }
+
+    @Test
+    public void testCorruptedTrack(){
+        ByteBuffer encoded = BinaryTrackIO.encode(new TrackGenerator(20, 20, 3, 0, 3).createTrack(TrackType.PACKED));
+        assertNotNull(BinaryTrackIO.decode(encoded.duplicate()));
+
+        // A SINGLE FLIPPED BIT IS CAUGHT BY THE CHECKSUM
+        encoded.put(40, (byte) (encoded.get(40) ^ 1));
+        assertThrows(IllegalStateException.class, () -> BinaryTrackIO.decode(encoded.duplicate()));
+        assertThrows(IllegalStateException.class, () -> BinaryTrackIO.decode(ByteBuffer.allocate(8)));
+    }
+
+}
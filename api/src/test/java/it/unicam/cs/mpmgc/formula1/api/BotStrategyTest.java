@@ -27,6 +27,7 @@ package it.unicam.cs.mpmgc.formula1.api;
 
 import it.unicam.cs.mpmgc.formula1.api.players.Car;
 import it.unicam.cs.mpmgc.formula1.api.players.Directions;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
 import it.unicam.cs.mpmgc.formula1.api.players.EasyBotStrategy;
 import it.unicam.cs.mpmgc.formula1.api.players.HardBotStrategy;
 import it.unicam.cs.mpmgc.formula1.api.track.Track;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,6 +109,39 @@ class BotStrategyTest {
         assertEquals(easyBotNextPos2, new Position(2,6)); //WILL GO DOWN
     }
 
+    @Test
+    public void testHardBotSeededReplay(){
+        Car firstRun = new Car("Bot1", new HardBotStrategy(track, new SplittableRandom(42)));
+        Car secondRun = new Car("Bot1", new HardBotStrategy(track, new SplittableRandom(42)));
+        firstRun.updatePosition(new Position(1, 1));
+        secondRun.updatePosition(new Position(1, 1));
+
+        for (int turn = 0; turn < 50; turn++){
+            firstRun.getMovementStrategy().move(firstRun.getCurrentPosition());
+            secondRun.getMovementStrategy().move(secondRun.getCurrentPosition());
+            assertEquals(firstRun.getCurrentPosition(), secondRun.getCurrentPosition());
+            assertEquals(firstRun.getMovementStrategy().getSpeed(), secondRun.getMovementStrategy().getSpeed());
+        }
+    }
+
+    @Test
+    public void testHardBotDoesNotJumpWalls(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("######");
+        trackLines.add("#.#..#");
+        trackLines.add("#....#");
+        trackLines.add("######");
+        Track walledTrack = new Track(4, 6);
+        walledTrack.createTrack(trackLines);
+        Car bot = new Car("Bot3", new HardBotStrategy(walledTrack));
+
+        for (int attempt = 0; attempt < 20; attempt++){
+            bot.updatePosition(new Position(1, 1));
+            bot.getMovementStrategy().move(bot.getCurrentPosition());  // RIGHT IS BLOCKED, EVEN AT SPEED 2
+            assertEquals(1, bot.getCurrentPosition().getColumn());
+        }
+    }
+
     @Test
     public void testHardBotNextDirectionOnObstacle(){
         hardBot.updatePosition(new Position(1, 6));
@@ -122,4 +157,18 @@ class BotStrategyTest {
         assertTrue(expectedPos);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testDistanceBotDescendsToFinishLine(){
+        Car distanceBot = new Car("Bot4", new DistanceBotStrategy(track));
+        distanceBot.updatePosition(new Position(1, 6));
+
+        int turns = 0;
+        while (!track.isFinish(distanceBot.getCurrentPosition().getRow(), distanceBot.getCurrentPosition().getColumn())){
+            distanceBot.getMovementStrategy().move(distanceBot.getCurrentPosition());
+            turns++;
+            assertTrue(turns <= 3, "TOO MANY TURNS");
+        }
+        assertEquals(3, turns);   // 6 STEPS AWAY WITH SPEED UP TO 2
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.track.ConsoleTrackRenderer;
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsoleTrackRendererTest {
+
+    private TrackOverlay overlay;
+    private ByteArrayOutputStream output;
+
+    @BeforeEach
+    public void trackSetUp(){
+        PackedTrack track = new PackedTrack(3, 5);
+        track.createTrack(List.of(
+                "#####",
+                "#.._#",
+                "#####"));
+        overlay = new TrackOverlay(track);
+        output = new ByteArrayOutputStream();
+    }
+
+    @Test
+    public void testFullFrames(){
+        ConsoleTrackRenderer renderer = new ConsoleTrackRenderer(new PrintStream(output));
+        overlay.placeMarker(1, 1, 'E');
+        renderer.render(overlay);
+        assertEquals("#####\n#E._#\n#####\n", output.toString());
+
+        // EVERY FRAME IS PRINTED WHOLE
+        output.reset();
+        overlay.clearMarker(1, 1);
+        overlay.placeMarker(1, 2, 'E');
+        renderer.render(overlay);
+        assertEquals("#####\n#.E_#\n#####\n", output.toString());
+    }
+
+    @Test
+    public void testDiffFrames(){
+        ConsoleTrackRenderer renderer = new ConsoleTrackRenderer(new PrintStream(output), true);
+        renderer.render(overlay);
+        assertEquals("\u001B[2J\u001B[H#####\n#.._#\n#####\n", output.toString());
+
+        // ONLY THE CHANGED CELL IS PRINTED, THEN THE CURSOR GOES UNDER THE TRACK
+        output.reset();
+        overlay.placeMarker(1, 2, 'H');
+        renderer.render(overlay);
+        assertEquals("\u001B[2;3HH\u001B[4;1H", output.toString());
+
+        // NOTHING CHANGED, NOTHING PRINTED
+        output.reset();
+        renderer.render(overlay);
+        assertEquals(0, output.size());
+
+        // AFTER A RESET THE FRAME IS PRINTED WHOLE AGAIN
+        renderer.reset();
+        renderer.render(overlay);
+        assertEquals("\u001B[2J\u001B[H#####\n#.H_#\n#####\n", output.toString());
+    }
+
+    @Test
+    public void testDiffFramesFromMoves(){
+        ConsoleTrackRenderer renderer = new ConsoleTrackRenderer(new PrintStream(output), true);
+        overlay.placeMarker(1, 1, 'E');
+        renderer.render(overlay, new int[]{Position.pack(1, 1)});
+        assertEquals("\u001B[2J\u001B[H#####\n#E._#\n#####\n", output.toString());
+
+        // ONLY THE CELLS LEFT AND ENTERED BY THE CAR ARE PRINTED, THE MARKER NOT MOVED BY A CAR IS NOT READ
+        output.reset();
+        overlay.clearMarker(1, 1);
+        overlay.placeMarker(1, 2, 'E');
+        overlay.placeMarker(1, 3, 'X');
+        renderer.render(overlay, new int[]{Position.pack(1, 2)});
+        assertEquals("\u001B[2;2H.\u001B[2;3HE\u001B[4;1H", output.toString());
+
+        // NO CAR MOVED, NOTHING PRINTED
+        output.reset();
+        renderer.render(overlay, new int[]{Position.pack(1, 2)});
+        assertEquals(0, output.size());
+
+        // A DIFFERENT NUMBER OF CARS PRINTS THE FRAME WHOLE AGAIN
+        renderer.render(overlay, new int[0]);
+        assertEquals("\u001B[2J\u001B[H#####\n#.EX#\n#####\n", output.toString());
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(overlay, null));
+    }
+
+    @Test
+    public void testNullTrack(){
+        ConsoleTrackRenderer renderer = new ConsoleTrackRenderer(new PrintStream(output));
+        assertThrows(IllegalArgumentException.class, () -> renderer.render(null));
+        assertThrows(IllegalArgumentException.class, () -> new ConsoleTrackRenderer(null));
+    }
+
+}
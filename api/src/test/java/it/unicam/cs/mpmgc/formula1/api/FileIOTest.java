@@ -29,6 +29,12 @@ import it.unicam.cs.mpmgc.formula1.api.utils.FileIO;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -96,6 +102,20 @@ class FileIOTest {
                 () -> fileIO.parsePlayers(playerLines3), "PLAYERS FILE IS EMPTY");
     }
 
-
+    @Test
+    public void testReadFilesystemAndStream() throws IOException {
+        Path file = Files.createTempFile("track", ".txt");
+        try {
+            Files.write(file, List.of("#####", "#._.#", "#####"));
+            // ABSOLUTE PATHS ARE READ FROM THE FILESYSTEM WHEN THEY ARE NOT RESOURCES
+            assertEquals(List.of("#####", "#._.#", "#####"), fileIO.readFile(file.toString()));
+            assertEquals(List.of("#####", "#._.#", "#####"), fileIO.readFile(file));
+        } finally {
+            Files.delete(file);
+        }
+        InputStream input = new ByteArrayInputStream("2\r\nEasyBot,bot1\nHardBot,bot2".getBytes(StandardCharsets.UTF_8));
+        assertEquals(List.of("2", "EasyBot,bot1", "HardBot,bot2"), fileIO.readFile(input));
+        assertThrows(RuntimeException.class, () -> fileIO.readFile("missingTrack.txt"));
+    }
 
 }
\ No newline at end of file
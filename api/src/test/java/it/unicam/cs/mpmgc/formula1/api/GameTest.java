@@ -27,13 +27,16 @@ package it.unicam.cs.mpmgc.formula1.api;
 
 import it.unicam.cs.mpmgc.formula1.api.game.GamePlay;
 import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
 import it.unicam.cs.mpmgc.formula1.api.players.Car;
 import it.unicam.cs.mpmgc.formula1.api.players.iCar;
-import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.SplittableRandom;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -49,7 +52,7 @@ class GameTest {
 
     @Test
     public void testGameInitializeTrack(){
-        Track track = setup.getTrack();
+        iTrack track = setup.getTrack();
         assertNotNull(track);
         assertEquals(16, track.getRows());
         assertEquals(14, track.getColumns());
@@ -76,4 +79,23 @@ class GameTest {
         assertFalse(game.checkWinner(player2));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSeededGameReplay(){
+        GameSetup firstSetup = new GameSetup(TrackType.MATRIX, new SplittableRandom(3));
+        GameSetup secondSetup = new GameSetup(TrackType.MATRIX, new SplittableRandom(3));
+        firstSetup.loadGame("botsOnly.txt", "trackFormat.txt");
+        secondSetup.loadGame("botsOnly.txt", "trackFormat.txt");
+        RaceEngine firstRace = new RaceEngine(firstSetup);
+        RaceEngine secondRace = new RaceEngine(secondSetup);
+
+        for (int round = 0; round < 30; round++){
+            firstRace.playRound();
+            secondRace.playRound();
+            for (int player = 0; player < firstSetup.getPlayers().size(); player++){
+                assertEquals(firstSetup.getPlayers().get(player).getCurrentPosition(),
+                        secondSetup.getPlayers().get(player).getCurrentPosition());
+            }
+        }
+    }
+
+}
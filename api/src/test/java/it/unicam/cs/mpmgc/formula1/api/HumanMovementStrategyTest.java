@@ -33,6 +33,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -45,6 +46,12 @@ class HumanMovementStrategyTest {
     @BeforeEach
     public void trackSetUp(){
         track = new Track(5, 6);
+        track.createTrack(List.of(
+                "######",
+                "######",
+                "######",
+                "#####.",
+                "####.."));
         humanStrategy = new HumanMovementStrategy(track);
         humanCar = new Car("player1", humanStrategy);
     }
@@ -52,13 +59,11 @@ class HumanMovementStrategyTest {
     @Test
     public void testSetNextDirection(){
         humanCar.updatePosition(new Position(5,5));
-        track.getTrack()[4][5] = '.';
         System.setIn(new ByteArrayInputStream("W\n".getBytes()));
         humanStrategy.move(humanCar.getCurrentPosition());
 
         assertEquals(new Position(4, 5), humanCar.getCurrentPosition());
 
-        track.getTrack()[4][4] = '.';
         System.setIn(new ByteArrayInputStream("A\n".getBytes()));
         humanStrategy.move(humanCar.getCurrentPosition());
 
@@ -68,12 +73,10 @@ class HumanMovementStrategyTest {
     @Test
     public void testSpeedIncrease(){
         humanCar.updatePosition(new Position(5,5));
-        track.getTrack()[4][5] = '.';
         System.setIn(new ByteArrayInputStream("W\n".getBytes()));
         humanStrategy.move(humanCar.getCurrentPosition());
         assertEquals(1, humanStrategy.getSpeed());
 
-        track.getTrack()[3][5] = '.';
         System.setIn(new ByteArrayInputStream("W\n".getBytes()));   // same direction so increase speed
         humanStrategy.move(humanCar.getCurrentPosition());
         assertEquals(2, humanStrategy.getSpeed());
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.track.MappedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MappedTrackTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void mappedSetUp() throws IOException {
+        file = Files.createTempFile("track", ".txt");
+    }
+
+    @AfterEach
+    public void mappedTearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSameAsTrack() throws IOException {
+        TrackGenerator generator = new TrackGenerator(60, 80, 4, 2, 3);
+        generator.writeTo(file);
+        iTrack expected = generator.createTrack(TrackType.MATRIX);
+        MappedTrack mapped = new MappedTrack(file);
+
+        assertEquals(60, mapped.getRows());
+        assertEquals(80, mapped.getColumns());
+        assertEquals(expected.getFinishLine(), mapped.getFinishLine());
+        assertArrayEquals(expected.getTrack(), mapped.getTrack());
+        for (int row = -1; row <= 60; row++){
+            for (int column = -1; column <= 80; column++){
+                assertEquals(expected.checkValidMove(row, column), mapped.checkValidMove(row, column));
+                assertEquals(expected.isFinish(row, column), mapped.isFinish(row, column));
+                assertEquals(expected.checkValidPath(Position.pack(row, column), Position.pack(row, column + 3)),
+                        mapped.checkValidPath(Position.pack(row, column), Position.pack(row, column + 3)));
+                assertEquals(expected.checkValidPath(Position.pack(row, column), Position.pack(row - 2, column)),
+                        mapped.checkValidPath(Position.pack(row, column), Position.pack(row - 2, column)));
+            }
+        }
+    }
+
+    @Test
+    public void testMixedLineEndings() throws IOException {
+        Files.writeString(file, "#####\r\n#._.#\n#...#\r\n#####");
+        MappedTrack mapped = new MappedTrack(file);
+
+        assertEquals(4, mapped.getRows());
+        assertEquals(5, mapped.getColumns());
+        assertTrue(mapped.isFinish(1, 2));
+        assertTrue(mapped.checkValidMove(2, 3));
+        assertFalse(mapped.checkValidMove(2, 4));
+    }
+
+    @Test
+    public void testRaceOnMappedTrack() throws IOException {
+        new TrackGenerator(30, 30, 3, 1, 3).writeTo(file);
+        MappedTrack mapped = new MappedTrack(file);
+        Car car = new Car("distance", new DistanceBotStrategy(mapped));
+        car.updatePosition(1, 1);
+
+        assertSame(car, new RaceEngine(mapped, List.of(car)).run(1000));
+    }
+
+    @Test
+    public void testInvalidFiles() throws IOException {
+        assertThrows(IllegalStateException.class, () -> new MappedTrack(file));
+        Files.writeString(file, "#####\n#..#\r\n######\n");
+        assertThrows(IllegalStateException.class, () -> new MappedTrack(file));
+        // SHORT LINES WHOSE TOTAL LENGTH IS STILL A MULTIPLE OF THE STRIDE
+        Files.writeString(file, "####\n##\n#\n####\n");
+        assertThrows(IllegalStateException.class, () -> new MappedTrack(file));
+    }
+
+}
@@ -0,0 +1,68 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.MonteCarloReport;
+import it.unicam.cs.mpmgc.formula1.api.game.MonteCarloRunner;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MonteCarloRunnerTest {
+
+    @Test
+    public void testReportCountsEveryRace(){
+        MonteCarloRunner runner = new MonteCarloRunner("botsOnly.txt", "trackFormat.txt");
+        MonteCarloReport report = runner.run(200, 300, 42);
+
+        assertEquals(200, report.getRaces());
+        assertEquals(200, report.getWins(0) + report.getWins(1) + report.getUnfinishedRaces());
+        assertTrue(report.getMinRounds() <= report.getRoundsPercentile(50));
+        assertTrue(report.getRoundsPercentile(50) <= report.getMaxRounds());
+        assertTrue(report.getMaxRounds() <= 300);
+    }
+
+    @Test
+    public void testSameSeedSameReport(){
+        MonteCarloRunner runner = new MonteCarloRunner("botsOnly.txt", "trackFormat.txt");
+        MonteCarloReport first = runner.run(100, 300, 7);
+        MonteCarloReport second = runner.run(100, 300, 7, new ForkJoinPool(2));
+
+        assertEquals(first.getWins(0), second.getWins(0));
+        assertEquals(first.getWins(1), second.getWins(1));
+        assertEquals(first.getAverageRounds(), second.getAverageRounds(), 0);
+        assertEquals(first.getRoundsPercentile(90), second.getRoundsPercentile(90));
+    }
+
+    @Test
+    public void testOnlyBotsAllowed(){
+        assertThrows(IllegalArgumentException.class,
+                () -> new MonteCarloRunner("playersFormat.txt", "trackFormat.txt"), "HUMAN PLAYER");
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.track.OccupancyIndex;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OccupancyIndexTest {
+
+    @Test
+    public void testOccupyAndRelease(){
+        OccupancyIndex index = new OccupancyIndex(4, 8);
+        assertTrue(index.isDense());
+        assertTrue(index.isEmpty());
+        assertEquals(OccupancyIndex.FREE, index.ownerAt(Position.pack(1, 1)));
+
+        index.occupy(Position.pack(1, 1), 0);
+        index.occupy(Position.pack(2, 5), 'P');
+        assertEquals(2, index.size());
+        assertEquals(0, index.ownerAt(Position.pack(1, 1)));
+        assertEquals('P', index.ownerAt(Position.pack(2, 5)));
+        assertTrue(index.isOccupied(Position.pack(2, 5)));
+
+        index.move(Position.pack(1, 1), Position.pack(1, 2), 0);
+        assertFalse(index.isOccupied(Position.pack(1, 1)));
+        assertEquals(0, index.ownerAt(Position.pack(1, 2)));
+        assertEquals(2, index.size());
+
+        index.release(Position.pack(2, 5));
+        index.release(Position.pack(2, 5));                   // ALREADY FREE
+        index.release(Position.pack(10, 10));                 // OUTSIDE THE TRACK
+        assertEquals(1, index.size());
+        assertFalse(index.isOccupied(Position.pack(-1, 3)));
+
+        index.clear();
+        assertTrue(index.isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.occupy(Position.pack(4, 0), 1));
+        assertThrows(IllegalArgumentException.class, () -> index.occupy(Position.pack(0, 0), -1));
+        assertThrows(IllegalArgumentException.class, () -> new OccupancyIndex(-1, 3));
+    }
+
+    @Test
+    public void testSparseIndexMatchesDense(){
+        OccupancyIndex dense = new OccupancyIndex(256, 256);
+        OccupancyIndex sparse = new OccupancyIndex(4096, 4096);
+        assertTrue(dense.isDense());
+        assertFalse(sparse.isDense());
+
+        // RANDOM MOVES OF 500 OWNERS ON THE SAME CELLS, CHECKED AGAINST A MAP
+        SplittableRandom random = new SplittableRandom(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        int[] cells = new int[500];
+        for (int owner = 0; owner < cells.length; owner++){
+            cells[owner] = Position.pack(random.nextInt(64), random.nextInt(64));
+        }
+        for (int step = 0; step < 20000; step++){
+            int owner = random.nextInt(cells.length);
+            int to = Position.pack(random.nextInt(64), random.nextInt(64));
+            expected.remove(cells[owner]);
+            dense.move(cells[owner], to, owner);
+            sparse.move(cells[owner], to, owner);
+            expected.put(to, owner);
+            cells[owner] = to;
+        }
+        assertEquals(expected.size(), dense.size());
+        assertEquals(expected.size(), sparse.size());
+        for (int row = 0; row < 64; row++){
+            for (int column = 0; column < 64; column++){
+                int position = Position.pack(row, column);
+                int owner = expected.getOrDefault(position, OccupancyIndex.FREE);
+                assertEquals(owner, dense.ownerAt(position));
+                assertEquals(owner, sparse.ownerAt(position));
+            }
+        }
+
+        Map<Integer, Integer> visited = new HashMap<>();
+        sparse.forEach(visited::put);
+        assertEquals(expected, visited);
+    }
+
+}
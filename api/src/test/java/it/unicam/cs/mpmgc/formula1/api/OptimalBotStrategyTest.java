@@ -0,0 +1,160 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.OptimalBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.OptimalLinePlanner;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OptimalBotStrategyTest {
+
+    private Track track;
+
+    @BeforeEach
+    public void trackSetUp(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("#########");
+        trackLines.add("#......_#");
+        trackLines.add("#.......#");
+        trackLines.add("#########");
+
+        track = new Track(4, 9);
+        track.createTrack(trackLines);
+    }
+
+    @Test
+    public void testAcceleratesOnStraightLine(){
+        OptimalLinePlanner planner = OptimalLinePlanner.forTrack(track);
+        assertEquals(3, planner.minimumTurns(new Position(1, 1)));   // 1 + 2 + 3 CELLS
+
+        OptimalBotStrategy strategy = new OptimalBotStrategy(track);
+        Car bot = new Car("Bot1", strategy);
+        bot.updatePosition(new Position(1, 1));
+        for (int turn = 1; turn <= 3; turn++){
+            bot.getMovementStrategy().move(bot.getCurrentPosition());
+            assertEquals(turn, strategy.getSpeed());
+        }
+        assertEquals(new Position(1, 7), bot.getCurrentPosition());
+    }
+
+    @Test
+    public void testPlanIsCachedAndShared(){
+        OptimalLinePlanner planner = OptimalLinePlanner.forTrack(track);
+        assertSame(planner, OptimalLinePlanner.forTrack(track));
+        assertSame(planner.plan(2, 1, 0, null), planner.plan(2, 1, 0, null));
+    }
+
+    @Test
+    public void testPassesStationaryBlocker(){
+        TrackOverlay overlay = new TrackOverlay(track);
+        OptimalLinePlanner planner = OptimalLinePlanner.forTrack(overlay);
+        int[] line = planner.plan(1, 1, 0, null);
+
+        // A PARKED CAR ON THE FIRST CELL OF THE RACE LINE
+        overlay.placeMarker(planner.rowOf(line[0]), planner.columnOf(line[0]), 'X');
+        Car bot = new Car("Bot1", new OptimalBotStrategy(overlay));
+        bot.updatePosition(new Position(1, 1));
+        for (int turn = 0; turn < 10 && !overlay.isFinish(bot.getCurrentPosition().getRow(), bot.getCurrentPosition().getColumn()); turn++){
+            overlay.clearMarker(bot.getCurrentPosition().getRow(), bot.getCurrentPosition().getColumn());
+            bot.getMovementStrategy().move(bot.getCurrentPosition());
+            overlay.placeMarker(bot.getCurrentPosition().getRow(), bot.getCurrentPosition().getColumn(), 'B');
+        }
+        assertTrue(overlay.isFinish(bot.getCurrentPosition().getRow(), bot.getCurrentPosition().getColumn()));
+        assertTrue(overlay.isMarked(planner.rowOf(line[0]), planner.columnOf(line[0])));
+    }
+
+    @Test
+    public void testPlanCacheIsBounded(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("#".repeat(32));
+        for (int row = 1; row < 19; row++){
+            trackLines.add("#" + ".".repeat(29) + "_#");
+        }
+        trackLines.add("#".repeat(32));
+        Track bigTrack = new Track(20, 32);
+        bigTrack.createTrack(trackLines);
+
+        // MORE STARTING STATES THAN MAX_PLANS, AS MANY REPLANS OF MOVED CARS
+        OptimalLinePlanner planner = OptimalLinePlanner.forTrack(bigTrack);
+        for (int row = 1; row < 19; row++){
+            for (int column = 1; column < 30; column++){
+                assertNotNull(planner.plan(row, column, 0, null));
+                assertTrue(planner.cachedPlans() <= OptimalLinePlanner.MAX_PLANS);
+            }
+        }
+        assertEquals(OptimalLinePlanner.MAX_PLANS, planner.cachedPlans());
+        assertTrue(planner.minimumTurns(new Position(1, 1)) > 0);
+    }
+
+    @Test
+    public void testUnreachableFinishLine(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("######");
+        trackLines.add("#..#_#");
+        trackLines.add("######");
+        Track closedTrack = new Track(3, 6);
+        closedTrack.createTrack(trackLines);
+
+        assertEquals(-1, OptimalLinePlanner.forTrack(closedTrack).minimumTurns(new Position(1, 1)));
+        Car bot = new Car("Bot1", new OptimalBotStrategy(closedTrack));
+        bot.updatePosition(new Position(1, 1));
+        bot.getMovementStrategy().move(bot.getCurrentPosition());
+        assertEquals(new Position(1, 1), bot.getCurrentPosition());
+    }
+
+    @Test
+    public void testBeatsLowerBoundOnGameTrack(){
+        GameSetup setup = new GameSetup();
+        setup.setupGame("playersFormat.txt", "trackFormat.txt");
+        iTrack gameTrack = setup.getTrack();
+        Position start = new Position(3, 1);
+        int minimumTurns = OptimalLinePlanner.forTrack(gameTrack).minimumTurns(start);
+        assertTrue(minimumTurns > 0);
+
+        Car bot = new Car("Bot1", new OptimalBotStrategy(gameTrack));
+        bot.updatePosition(start);
+        int turns = 0;
+        while (!gameTrack.isFinish(bot.getCurrentPosition().getRow(), bot.getCurrentPosition().getColumn())){
+            bot.getMovementStrategy().move(bot.getCurrentPosition());
+            turns++;
+            assertTrue(turns <= minimumTurns, "TOO MANY TURNS");
+        }
+        assertEquals(minimumTurns, turns);
+    }
+
+}
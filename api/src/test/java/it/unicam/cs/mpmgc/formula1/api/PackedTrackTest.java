@@ -0,0 +1,149 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PackedTrackTest {
+
+    private List<String> trackLines;
+    private PackedTrack track;
+
+    @BeforeEach
+    public void trackSetUp(){
+        trackLines = new ArrayList<>();
+        trackLines.add("########");
+        trackLines.add("#......#");
+        trackLines.add("#....__#");
+        trackLines.add("########");
+
+        track = new PackedTrack(4, 8);
+        track.createTrack(trackLines);
+    }
+
+    @Test
+    public void testSameMovesAsMatrixTrack(){
+        Track matrixTrack = new Track(4, 8);
+        matrixTrack.createTrack(trackLines);
+
+        for (int row = -1; row <= 4; row++){
+            for (int column = -1; column <= 8; column++){
+                Position move = new Position(row, column);
+                assertEquals(matrixTrack.checkValidMove(move), track.checkValidMove(move));
+            }
+        }
+    }
+
+    @Test
+    public void testSamePathsAsMatrixTrack(){
+        List<String> walledLines = new ArrayList<>();
+        walledLines.add("########");
+        walledLines.add("#..#...#");
+        walledLines.add("#......#");
+        walledLines.add("#.#..__#");
+        walledLines.add("########");
+        Track matrixTrack = new Track(5, 8);
+        matrixTrack.createTrack(walledLines);
+        PackedTrack packedTrack = new PackedTrack(5, 8);
+        packedTrack.createTrack(walledLines);
+
+        for (int fromRow = 0; fromRow < 5; fromRow++){
+            for (int fromColumn = 0; fromColumn < 8; fromColumn++){
+                Position from = new Position(fromRow, fromColumn);
+                for (int toRow = -1; toRow <= 5; toRow++){
+                    for (int toColumn = -1; toColumn <= 8; toColumn++){
+                        Position to = new Position(toRow, toColumn);
+                        assertEquals(matrixTrack.checkValidPath(from, to), packedTrack.checkValidPath(from, to));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testLongPathAcrossWords(){
+        int columns = 200;
+        List<String> wideLines = new ArrayList<>();
+        wideLines.add("#".repeat(columns));
+        wideLines.add("#" + ".".repeat(columns - 2) + "#");
+        wideLines.add("#" + ".".repeat(100) + "#" + ".".repeat(columns - 103) + "#");
+        wideLines.add("#".repeat(columns));
+        PackedTrack wideTrack = new PackedTrack(4, columns);
+        wideTrack.createTrack(wideLines);
+
+        assertTrue(wideTrack.checkValidPath(new Position(1, 1), new Position(1, columns - 2)));
+        assertFalse(wideTrack.checkValidPath(new Position(2, 1), new Position(2, columns - 2)));
+        assertTrue(wideTrack.checkValidPath(new Position(2, 1), new Position(2, 100)));
+    }
+
+    @Test
+    public void testFinishCells(){
+        assertTrue(track.isFinish(2, 5));
+        assertTrue(track.isFinish(2, 6));
+        assertFalse(track.isFinish(1, 5));
+        assertFalse(track.isFinish(-1, 5));
+        assertFalse(track.isFinish(2, 8));
+        assertEquals(2, track.getFinishLine().size());
+    }
+
+    @Test
+    public void testTrackView(){
+        char[][] trackMatrix = track.getTrack();
+        assertEquals('#', trackMatrix[0][0]);
+        assertEquals('.', trackMatrix[1][2]);
+        assertEquals('_', trackMatrix[2][5]);
+    }
+
+    @Test
+    public void testExceptionsCreateTrack(){
+        assertThrows(IllegalArgumentException.class,
+                () -> track.createTrack(null), "Null Track");
+        assertThrows(IllegalArgumentException.class,
+                () -> new PackedTrack(-1, 8), "Negative rows");
+    }
+
+    @Test
+    public void testGameSetupWithPackedTrack(){
+        GameSetup setup = new GameSetup(TrackType.PACKED);
+        setup.setupGame("playersFormat.txt", "trackFormat.txt");
+
+        assertInstanceOf(PackedTrack.class, ((TrackOverlay) setup.getTrack()).getBase());
+        assertEquals(3, setup.getPlayers().size());
+    }
+
+}
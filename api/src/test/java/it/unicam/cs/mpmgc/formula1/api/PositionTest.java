@@ -25,7 +25,11 @@
 
 package it.unicam.cs.mpmgc.formula1.api;
 
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.EasyBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import it.unicam.cs.mpmgc.formula1.api.utils.PositionTable;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,4 +50,49 @@ class PositionTest {
         assertEquals(position1, position2);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testPositionFlyweight(){
+        assertSame(Position.of(5, 6), Position.of(5, 6));
+        assertEquals(new Position(5, 6), Position.of(5, 6));
+        assertEquals(new Position(-1, 300), Position.of(-1, 300));   // OUTSIDE THE SHARED TABLE
+
+        PositionTable table = new PositionTable(1000, 1000);
+        assertSame(table.of(999, 999), table.of(999, 999));
+        assertNotSame(table.of(1000, 999), table.of(1000, 999));
+    }
+
+    @Test
+    public void testTrackPositions(){
+        Track track = new Track(4, 300);
+        assertSame(track.positionAt(3, 299), track.positionAt(3, 299));
+        assertEquals(new Position(3, 299), track.positionAt(3, 299));
+
+        // A CAR MOVED WITH PACKED COORDINATES GETS THE POSITIONS OF ITS TRACK, ALSO OUTSIDE THE SMALL TABLE
+        Car car = new Car("Bot1", new EasyBotStrategy(track));
+        car.updatePosition(2, 280);
+        assertSame(track.positionAt(2, 280), car.getCurrentPosition());
+        car.updatePosition(3, 299);
+        assertSame(track.positionAt(3, 299), car.getCurrentPosition());
+    }
+
+    @Test
+    public void testPackedPositions(){
+        int packed = Position.pack(12, 345);
+        assertEquals(12, Position.rowOf(packed));
+        assertEquals(345, Position.columnOf(packed));
+        assertEquals(packed, new Position(12, 345).pack());
+        // NEGATIVE COORDINATES MUST SURVIVE THE ROUND TRIP
+        int negative = Position.pack(-1, -2);
+        assertEquals(-1, Position.rowOf(negative));
+        assertEquals(-2, Position.columnOf(negative));
+    }
+
+    @Test
+    public void testPackedTrackChecks(){
+        Track track = new Track(4, 300);
+        assertEquals(track.checkValidMove(new Position(2, 5)), track.checkValidMove(2, 5));
+        assertEquals(track.checkValidPath(new Position(1, 1), new Position(1, 3)),
+                track.checkValidPath(Position.pack(1, 1), Position.pack(1, 3)));
+    }
+
+}
@@ -0,0 +1,173 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.game.iRaceListener;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.EasyBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RaceEngineTest {
+
+    private Track track;
+    private List<Car> cars;
+
+    @BeforeEach
+    public void raceSetUp(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("########");
+        trackLines.add("#......#");
+        trackLines.add("#......#");
+        trackLines.add("#__....#");
+        trackLines.add("########");
+        track = new Track(5, 8);
+        track.createTrack(trackLines);
+
+        cars = new ArrayList<>();
+        cars.add(new Car("easy", new EasyBotStrategy(track)));
+        cars.add(new Car("distance", new DistanceBotStrategy(track)));
+        cars.get(0).updatePosition(new Position(1, 1));
+        cars.get(1).updatePosition(new Position(1, 6));
+    }
+
+    @Test
+    public void testRunUntilWinner(){
+        RaceEngine engine = new RaceEngine(track, cars);
+        iCar winner = engine.run(100);
+
+        assertSame(cars.get(1), winner);
+        assertTrue(engine.isFinished());
+        assertEquals(3, engine.getRound());
+    }
+
+    @Test
+    public void testListenersAndNoConsoleOutput(){
+        RaceEngine engine = new RaceEngine(track, cars);
+        int[] events = new int[3];
+        engine.addListener(new iRaceListener() {
+            @Override
+            public void onTurn(iCar car, int round) { events[0]++; }
+
+            @Override
+            public void onRoundEnd(int round) { events[1]++; }
+
+            @Override
+            public void onWinner(iCar winner, int round) { events[2]++; }
+        });
+
+        PrintStream console = System.out;
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(output));
+        try {
+            engine.run(100);
+        } finally {
+            System.setOut(console);
+        }
+
+        assertEquals(0, output.size());
+        assertEquals(6, events[0]);     // 2 CARS FOR 3 ROUNDS
+        assertEquals(2, events[1]);     // THE LAST ROUND STOPS AT THE WINNER
+        assertEquals(1, events[2]);
+    }
+
+    @Test
+    public void testMaxRounds(){
+        List<Car> easyOnly = List.of(cars.get(0));
+        RaceEngine engine = new RaceEngine(track, easyOnly);
+
+        assertNull(engine.run(1));
+        assertEquals(1, engine.getRound());
+        assertFalse(engine.isFinished());
+    }
+
+    @Test
+    public void testCarsDoNotLandOnEachOther(){
+        TrackOverlay overlay = new TrackOverlay(track);
+        List<Car> crowd = new ArrayList<>();
+        for (int column = 1; column <= 6; column++){
+            Car car = new Car("bot" + column, new DistanceBotStrategy(overlay));
+            car.updatePosition(new Position(1, column));
+            crowd.add(car);
+        }
+        RaceEngine engine = new RaceEngine(overlay, crowd);
+        assertSame(overlay, engine.getTrack());
+        assertEquals(6, overlay.getMarkers().size());
+
+        List<String> collisions = new ArrayList<>();
+        engine.addListener(new iRaceListener() {
+            @Override
+            public void onTurn(iCar car, int round) {
+                Set<Integer> cells = new HashSet<>();
+                for (iCar other : crowd){
+                    if (!cells.add(other.getPackedPosition())){
+                        collisions.add(other.getName() + " at round " + round);
+                    }
+                }
+            }
+
+            @Override
+            public void onRoundEnd(int round) { }
+
+            @Override
+            public void onWinner(iCar winner, int round) { }
+        });
+
+        assertNotNull(engine.run(100));
+        assertEquals(List.of(), collisions);
+        assertEquals(6, overlay.getMarkers().size());     // EVERY CAR OCCUPIES ONE CELL
+        for (iCar car : crowd){
+            assertTrue(overlay.getMarkers().isOccupied(car.getPackedPosition()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> engine.executeTurn(cars.get(0)), "NOT IN THE RACE");
+    }
+
+    @Test
+    public void testOnlyBotsAllowed(){
+        GameSetup setup = new GameSetup();
+        setup.loadGame("playersFormat.txt", "trackFormat.txt");   // CONTAINS A HUMAN PLAYER
+
+        assertThrows(IllegalArgumentException.class, () -> new RaceEngine(setup), "HUMAN PLAYER");
+        assertThrows(IllegalArgumentException.class, () -> new RaceEngine(null), "NULL SETUP");
+    }
+
+}
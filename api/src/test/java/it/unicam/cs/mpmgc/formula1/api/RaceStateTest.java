@@ -0,0 +1,161 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceState;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.EasyBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.HardBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RaceStateTest {
+
+    private iTrack track;
+
+    @BeforeEach
+    public void trackSetUp(){
+        track = new TrackGenerator(64, 64, 8, 0, 8).createTrack(TrackType.PACKED);
+    }
+
+    @Test
+    public void testSameMovesOfTheStrategies(){
+        RaceState state = new RaceState(track, new SplittableRandom(3));
+        state.addCar("EasyBot", "easy");
+        state.addCar("HardBot", "hard");
+        state.addCar("DistanceBot", "distance");
+
+        TrackOverlay overlay = new TrackOverlay(track);
+        List<Car> cars = List.of(
+                new Car("easy", new EasyBotStrategy(overlay)),
+                new Car("hard", new HardBotStrategy(overlay, new SplittableRandom(3))),
+                new Car("distance", new DistanceBotStrategy(overlay)));
+        for (int car = 0; car < cars.size(); car++){
+            cars.get(car).updatePosition(car + 1, 1);      // SAME STARTING GRID OF GAMESETUP
+        }
+        RaceEngine objects = new RaceEngine(overlay, cars);
+        RaceEngine arrays = RaceEngine.forState(state);
+
+        while (!objects.isFinished()){
+            objects.playRound();
+            arrays.playRound();
+            for (int car = 0; car < cars.size(); car++){
+                assertEquals(cars.get(car).getPackedPosition(), state.getCar(car).getPackedPosition(),
+                        "ROUND " + objects.getRound());
+                assertEquals(cars.get(car).getMovementStrategy().getSpeed(),
+                        state.getCar(car).getMovementStrategy().getSpeed());
+            }
+        }
+        assertTrue(arrays.isFinished());
+        assertEquals(objects.getWinner().getName(), arrays.getWinner().getName());
+        assertEquals(objects.getRound(), arrays.getRound());
+    }
+
+    @Test
+    public void testHundredsOfCarsFillTheGrid(){
+        RaceState state = new RaceState(track, new SplittableRandom(5));
+        for (int car = 0; car < 300; car++){
+            state.addCar(car % 2 == 0 ? "DistanceBot" : "HardBot", "bot" + car);
+        }
+        assertEquals(300, state.size());
+        assertEquals(300, state.getTrack().getMarkers().size());
+        assertEquals(Position.pack(1, 1), state.getCar(0).getPackedPosition());
+        assertEquals(Position.pack(2, 1), state.getCar(1).getPackedPosition());
+
+        RaceEngine engine = RaceEngine.forState(state);
+        for (int round = 0; round < 200 && !engine.isFinished(); round++){
+            engine.playRound();
+            Set<Integer> cells = new HashSet<>();
+            for (iCar car : state.getCars()){
+                assertTrue(cells.add(car.getPackedPosition()), car.getName() + " ON ANOTHER CAR");
+                assertTrue(track.checkValidMove(Position.rowOf(car.getPackedPosition()),
+                        Position.columnOf(car.getPackedPosition())));
+            }
+            assertEquals(300, state.getTrack().getMarkers().size());
+        }
+        assertNotNull(engine.getWinner());
+    }
+
+    @Test
+    public void testCarViews(){
+        RaceState state = new RaceState(track, new SplittableRandom(1));
+        int car = state.addCar("OptimalBot", "optimal", 3, 2);
+        assertSame(state.getCar(car), state.getCars().get(car));
+        assertEquals("optimal", state.getCar(car).getName());
+        assertEquals(3, state.getRow(car));
+        assertEquals(2, state.getColumn(car));
+
+        state.getCar(car).updatePosition(new Position(4, 2));
+        assertTrue(state.getTrack().isMarked(4, 2));
+        assertFalse(state.getTrack().isMarked(3, 2));
+        assertTrue(state.getTrack().checkValidMove(3, 2));
+        state.step(car);
+        assertNotEquals(Position.pack(4, 2), state.getCar(car).getPackedPosition());  // THE OPTIMAL BOT MOVED
+
+        assertThrows(IllegalArgumentException.class, () -> state.addCar("Human", "human"));
+        assertThrows(IllegalArgumentException.class, () -> state.addCar("EasyBot", "easy", 0, 0));
+        assertThrows(IllegalArgumentException.class, () -> state.addCar("EasyBot", "easy",
+                state.getRow(car), state.getColumn(car)), "OCCUPIED CELL");
+        assertThrows(IndexOutOfBoundsException.class, () -> state.step(1));
+    }
+
+    @Test
+    public void testLoadRaceState(){
+        RaceState easyState = new RaceState(track, new SplittableRandom(1));
+        easyState.addCar("EasyBot", "easy");
+        // A CAR TAKING THE STRATEGY VIEW FOLLOWS THE CAR OF THE RACE STATE
+        Car copy = new Car("copy", easyState.getCar(0).getMovementStrategy());
+        copy.updatePosition(easyState.getRow(0), easyState.getColumn(0));
+        int start = copy.getPackedPosition();
+        copy.getMovementStrategy().move(copy.getCurrentPosition());
+        assertNotEquals(start, easyState.getCar(0).getPackedPosition());
+        assertEquals(easyState.getCar(0).getPackedPosition(), copy.getPackedPosition());
+
+        GameSetup setup = new GameSetup(TrackType.PACKED);
+        RaceState state = setup.loadRaceState("botsOnly.txt", "trackFormat.txt");
+        assertEquals(2, state.size());
+        assertEquals(Position.pack(1, 1), state.getCar(0).getPackedPosition());
+        assertEquals(Position.pack(2, 1), state.getCar(1).getPackedPosition());
+        assertSame(setup.getOverlay(), state.getTrack());
+        assertEquals(List.of(), setup.getPlayers());
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackCache;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackCacheTest {
+
+    private TrackCache cache;
+    private Path file;
+
+    @BeforeEach
+    public void cacheSetUp() throws IOException {
+        cache = new TrackCache(2);
+        file = Files.createTempFile("track", ".txt");
+        Files.write(file, List.of("#####", "#..##", "#._.#", "#####"));
+    }
+
+    @AfterEach
+    public void cacheTearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testSharedInstances() throws IOException {
+        iTrack track = cache.get(file, TrackType.MATRIX);
+        assertSame(track, cache.get(file, TrackType.MATRIX));
+        assertSame(track, cache.get(file.toString(), TrackType.MATRIX));
+        // EVERY REPRESENTATION IS CACHED ON ITS OWN
+        assertNotSame(track, cache.get(file, TrackType.PACKED));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testCachedTracksCanNotBeChanged() throws IOException {
+        for (TrackType trackType : TrackType.values()){
+            iTrack track = cache.get(file, trackType);
+            List<String> walls = List.of("#####", "#####", "#####", "#####");
+            if (track instanceof Track matrix){
+                assertThrows(IllegalStateException.class, () -> matrix.createTrack(walls));
+            }
+            else {
+                assertThrows(IllegalStateException.class, () -> ((PackedTrack) track).createTrack(walls));
+            }
+            assertThrows(UnsupportedOperationException.class, () -> track.getFinishLine().clear());
+            assertEquals(1, track.getFinishLine().size());
+            assertTrue(track.isFinish(2, 2));
+            assertTrue(track.checkValidMove(1, 1));
+        }
+    }
+
+    @Test
+    public void testModifiedFileIsReloaded() throws IOException {
+        iTrack track = cache.get(file, TrackType.PACKED);
+        assertFalse(track.checkValidMove(1, 3));
+
+        Files.write(file, List.of("#####", "#...#", "#._.#", "#####"));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis() + 5000));
+        iTrack reloaded = cache.get(file, TrackType.PACKED);
+        assertNotSame(track, reloaded);
+        assertTrue(reloaded.checkValidMove(1, 3));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() throws IOException {
+        iTrack matrix = cache.get(file, TrackType.MATRIX);
+        iTrack packed = cache.get(file, TrackType.PACKED);
+        assertSame(matrix, cache.get(file, TrackType.MATRIX));
+        // THE PACKED TRACK IS NOW THE LEAST RECENTLY USED ONE
+        iTrack resource = cache.get("trackFormat.txt", TrackType.MATRIX);
+        assertEquals(2, cache.size());
+        assertSame(matrix, cache.get(file, TrackType.MATRIX));
+        assertSame(resource, cache.get("trackFormat.txt", TrackType.MATRIX));
+        assertNotSame(packed, cache.get(file, TrackType.PACKED));
+        assertThrows(IllegalArgumentException.class, () -> new TrackCache(0));
+    }
+
+    @Test
+    public void testGameSetupsShareTracks() throws IOException {
+        GameSetup first = new GameSetup(TrackType.PACKED);
+        GameSetup second = new GameSetup(TrackType.PACKED);
+        first.loadGame("botsOnly.txt", "trackFormat.txt");
+        second.loadGame("botsOnly.txt", "trackFormat.txt");
+        assertSame(first.getTrack(), second.getTrack());
+        assertSame(first.getTrack(), TrackCache.shared().get("trackFormat.txt", TrackType.PACKED));
+
+        // PLAYERS ARE DRAWN ON AN OVERLAY OF A RENDERED GAME, OVER THE SHARED TRACK
+        GameSetup rendered = new GameSetup(TrackType.PACKED);
+        rendered.setupGame("botsOnly.txt", "trackFormat.txt");
+        assertNotSame(first.getTrack(), rendered.getTrack());
+        assertSame(first.getTrack(), rendered.getOverlay().getBase());
+        assertEquals(16, rendered.getTrackLines().size());
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackGeneratorTest {
+
+    private TrackGenerator generator;
+
+    @BeforeEach
+    public void generatorSetUp(){
+        generator = new TrackGenerator(40, 60, 3, 2, 2);
+    }
+
+    @Test
+    public void testGeneratedLines(){
+        List<String> lines = generator.generate();
+        assertEquals(40, lines.size());
+        int finishCells = 0;
+        for (int row = 0; row < lines.size(); row++){
+            String line = lines.get(row);
+            assertEquals(60, line.length());
+            // THE BORDER IS ALWAYS A WALL
+            assertEquals('#', line.charAt(0));
+            assertEquals('#', line.charAt(59));
+            if (row == 0 || row == 39){
+                assertEquals("#".repeat(60), line);
+            }
+            finishCells += (int) line.chars().filter(cell -> cell == '_').count();
+        }
+        assertEquals(2, finishCells);
+        // THE STARTING POSITIONS ARE FREE
+        assertEquals("#...", lines.get(1).substring(0, 4));
+        assertEquals("#...", lines.get(3).substring(0, 4));
+    }
+
+    @Test
+    public void testClosedCircuit(){
+        for (TrackType trackType : TrackType.values()){
+            iTrack track = generator.createTrack(trackType);
+            DistanceField distances = track.getDistanceField();
+            List<String> lines = generator.generate();
+            // EVERY FREE CELL CAN REACH THE FINISH LINE
+            for (int row = 1; row < 39; row++){
+                for (int column = 1; column < 59; column++){
+                    boolean free = lines.get(row).charAt(column) != '#';
+                    assertEquals(free, distances.distanceAt(row, column) != DistanceField.UNREACHABLE);
+                }
+            }
+            // THE START IS CLOSED BY A WALL, SO THE CARS MUST GO AROUND THE CIRCUIT
+            assertFalse(track.checkValidMove(4, 1));
+            assertTrue(distances.distanceAt(1, 1) > 60 + 40);
+        }
+    }
+
+    @Test
+    public void testRaceOnGeneratedTrack(){
+        iTrack track = generator.createTrack(TrackType.PACKED);
+        Car car = new Car("distance", new DistanceBotStrategy(track));
+        car.updatePosition(1, 1);
+        RaceEngine engine = new RaceEngine(track, List.of(car));
+
+        assertSame(car, engine.run(1000));
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        StringWriter writer = new StringWriter();
+        generator.writeTo(writer);
+
+        assertEquals(String.join("\n", generator.generate()) + "\n", writer.toString());
+    }
+
+    @Test
+    public void testInvalidShapes(){
+        assertThrows(IllegalArgumentException.class, () -> new TrackGenerator(40, 60, 0, 0, 1));
+        assertThrows(IllegalArgumentException.class, () -> new TrackGenerator(40, 60, 3, 0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new TrackGenerator(10, 60, 3, 0, 3));
+        assertThrows(IllegalArgumentException.class, () -> new TrackGenerator(40, 20, 3, 5, 3));
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackLoader;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackLoaderTest {
+
+    private Path file;
+
+    @BeforeEach
+    public void loaderSetUp() throws IOException {
+        file = Files.createTempFile("track", ".txt");
+    }
+
+    @AfterEach
+    public void loaderTearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Test
+    public void testLoadGeneratedTrack() throws IOException {
+        // BIGGER THAN THE LOADER BUFFER, SO IT IS READ IN MANY CHUNKS
+        TrackGenerator generator = new TrackGenerator(300, 400, 20, 3, 15);
+        generator.writeTo(file);
+        for (TrackType trackType : TrackType.values()){
+            iTrack expected = generator.createTrack(trackType);
+            iTrack loaded = TrackLoader.load(file, trackType);
+
+            assertEquals(300, loaded.getRows());
+            assertEquals(400, loaded.getColumns());
+            assertEquals(expected.getFinishLine(), loaded.getFinishLine());
+            assertArrayEquals(expected.getTrack(), loaded.getTrack());
+            for (int row = 0; row < 300; row++){
+                for (int column = 0; column < 400; column++){
+                    assertEquals(expected.checkValidMove(row, column), loaded.checkValidMove(row, column));
+                    assertEquals(expected.isFinish(row, column), loaded.isFinish(row, column));
+                }
+            }
+            assertEquals(expected.getDistanceField().distanceAt(1, 1), loaded.getDistanceField().distanceAt(1, 1));
+        }
+    }
+
+    @Test
+    public void testLineEndings() throws IOException {
+        // WINDOWS LINE ENDINGS AND NO NEW LINE AFTER THE LAST ROW
+        Files.writeString(file, "#####\r\n#._.#\r\n#####");
+        iTrack track = TrackLoader.load(file, TrackType.MATRIX);
+
+        assertEquals(3, track.getRows());
+        assertEquals(5, track.getColumns());
+        assertTrue(track.checkValidMove(1, 1));
+        assertTrue(track.isFinish(1, 2));
+        assertFalse(track.checkValidMove(1, 4));
+    }
+
+    @Test
+    public void testInvalidFiles() throws IOException {
+        assertThrows(IllegalStateException.class, () -> TrackLoader.load(file, TrackType.PACKED));
+        Files.writeString(file, "#####\n#..#\n######\n");
+        assertThrows(IllegalStateException.class, () -> TrackLoader.load(file, TrackType.PACKED));
+        Files.writeString(file, "#####\n#...#\n\n");
+        assertThrows(IllegalStateException.class, () -> TrackLoader.load(file, TrackType.MATRIX));
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.api;
+
+import it.unicam.cs.mpmgc.formula1.api.track.PackedTrack;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TrackOverlayTest {
+
+    private PackedTrack track;
+
+    @BeforeEach
+    public void trackSetUp(){
+        track = new PackedTrack(4, 8);
+        track.createTrack(List.of(
+                "########",
+                "#......#",
+                "#....__#",
+                "########"));
+    }
+
+    @Test
+    public void testMarkersBlockMoves(){
+        TrackOverlay overlay = new TrackOverlay(track);
+        assertTrue(overlay.checkValidMove(1, 3));
+        assertTrue(overlay.checkValidPath(Position.pack(1, 1), Position.pack(1, 3)));
+
+        overlay.placeMarker(1, 3, 'P');
+        assertTrue(overlay.isMarked(1, 3));
+        assertFalse(overlay.checkValidMove(1, 3));
+        assertFalse(overlay.checkValidPath(Position.pack(1, 1), Position.pack(1, 3)));
+        assertEquals('P', overlay.cellAt(1, 3));
+
+        overlay.clearMarker(1, 3);
+        assertFalse(overlay.isMarked(1, 3));
+        assertTrue(overlay.checkValidMove(1, 3));
+        assertEquals('.', overlay.cellAt(1, 3));
+    }
+
+    @Test
+    public void testBaseIsShared(){
+        TrackOverlay first = new TrackOverlay(track);
+        TrackOverlay second = new TrackOverlay(first);     // AN OVERLAY OF AN OVERLAY USES THE SAME BASE
+        assertSame(track, second.getBase());
+
+        first.placeMarker(1, 1, 'A');
+        second.placeMarker(1, 2, 'B');
+        assertEquals('A', first.getTrack()[1][1]);
+        assertEquals('.', first.getTrack()[1][2]);
+        assertEquals('.', second.getTrack()[1][1]);
+        assertEquals('B', second.getTrack()[1][2]);
+        assertEquals('.', track.cellAt(1, 1));
+        assertEquals('.', track.cellAt(1, 2));
+
+        // THE BASE MATRIX IS A COPY, SO WRITING IT DOES NOT CHANGE THE TRACK
+        track.getTrack()[1][1] = '#';
+        assertTrue(track.checkValidMove(1, 1));
+        assertEquals(track.getFinishLine(), first.getFinishLine());
+        assertSame(track.getDistanceField(), second.getDistanceField());
+    }
+
+}
@@ -27,7 +27,9 @@ package it.unicam.cs.mpmgc.formula1.api;
 
 import it.unicam.cs.mpmgc.formula1.api.players.Car;
 import it.unicam.cs.mpmgc.formula1.api.players.HumanMovementStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.DistanceField;
 import it.unicam.cs.mpmgc.formula1.api.track.Track;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
 import it.unicam.cs.mpmgc.formula1.api.track.TrackRenderer;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 import org.junit.jupiter.api.BeforeEach;
@@ -100,17 +102,69 @@ class TrackTest {
         assertTrue(finishLine.contains(new Position(2,6)));
     }
 
+    @Test
+    public void testCheckValidPath(){
+        List<String> trackLines = new ArrayList<>();
+        trackLines.add("########");
+        trackLines.add("#..#...#");
+        trackLines.add("#......#");
+        trackLines.add("#.#..__#");
+        trackLines.add("########");
+        Track walledTrack = new Track(5, 8);
+        walledTrack.createTrack(trackLines);
+
+        assertTrue(walledTrack.checkValidPath(new Position(2, 1), new Position(2, 4)));    // FREE ROW
+        assertTrue(walledTrack.checkValidPath(new Position(1, 4), new Position(3, 4)));    // FREE COLUMN
+        assertTrue(walledTrack.checkValidPath(new Position(3, 4), new Position(3, 6)));    // TO THE FINISH LINE
+        assertFalse(walledTrack.checkValidPath(new Position(1, 2), new Position(1, 4)));   // JUMPS A WALL
+        assertFalse(walledTrack.checkValidPath(new Position(1, 2), new Position(3, 2)));   // LANDS ON A WALL
+        assertFalse(walledTrack.checkValidPath(new Position(3, 1), new Position(1, 3)));   // NOT STRAIGHT
+        assertFalse(walledTrack.checkValidPath(new Position(3, 3), new Position(3, 1)));   // JUMPS A WALL BACKWARDS
+    }
+
+    @Test
+    public void testDistanceField(){
+        DistanceField distanceField = track.getDistanceField();
+
+        assertEquals(0, distanceField.distanceAt(2, 5));
+        assertEquals(1, distanceField.distanceAt(2, 4));
+        assertEquals(5, distanceField.distanceAt(1, 1));
+        assertEquals(DistanceField.UNREACHABLE, distanceField.distanceAt(0, 1));    // WALL
+        assertEquals(DistanceField.UNREACHABLE, distanceField.distanceAt(10, 1));   // OUT OF BOUNDS
+        assertSame(distanceField, track.getDistanceField());
+    }
+
+    @Test
+    public void testIsFinish(){
+        assertTrue(track.isFinish(2, 5));
+        assertTrue(track.isFinish(2, 6));
+        assertFalse(track.isFinish(2, 4));
+        assertFalse(track.isFinish(4, 5));   // OUT OF BOUNDS
+
+        TrackOverlay overlay = new TrackOverlay(track);
+        overlay.placeMarker(2, 5, 'P');      // A PLAYER OVER THE FINISH LINE
+        assertTrue(overlay.isFinish(2, 5));
+    }
+
     @Test
     public void testPlaceAndClearPlayerPosition(){
         TrackRenderer trackRenderer = new TrackRenderer();
         Car player = new Car("player1", new HumanMovementStrategy(track));
         player.updatePosition(new Position(1, 1));
 
-        trackRenderer.placePlayer(player, track);
-        assertEquals('P', track.getTrack()[1][1]);
+        TrackOverlay overlay = new TrackOverlay(track);
+
+        trackRenderer.placePlayer(player, overlay);
+        assertEquals('P', overlay.getTrack()[1][1]);
+        assertEquals('.', track.getTrack()[1][1]);     // THE BASE TRACK IS NEVER WRITTEN
+
+        trackRenderer.clearPlayerPosition(player, overlay);
+        assertEquals('.', overlay.getTrack()[1][1]);
 
-        trackRenderer.clearPlayerPosition(player, track);
-        assertEquals('.', track.getTrack()[1][1]);
+        player.updatePosition(new Position(2, 5));
+        trackRenderer.placePlayer(player, overlay);
+        trackRenderer.clearPlayerPosition(player, overlay);
+        assertEquals('_', overlay.cellAt(2, 5));         // THE FINISH LINE IS RESTORED
     }
 
 }
\ No newline at end of file
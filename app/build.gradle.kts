@@ -24,3 +24,8 @@ javafx {
 application {
     mainClass.set("it.unicam.cs.mpmgc.formula1.app.MainFX")
 }
+
+tasks.named<JavaExec>("run") {
+    // PASSES THE TRACK FILE CHOSEN WITH -Dformula1.track TO THE GUI
+    System.getProperty("formula1.track")?.let { systemProperty("formula1.track", it) }
+}
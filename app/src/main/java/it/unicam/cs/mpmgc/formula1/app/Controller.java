@@ -28,8 +28,12 @@ package it.unicam.cs.mpmgc.formula1.app;
 import it.unicam.cs.mpmgc.formula1.api.game.GamePlay;
 import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
 import it.unicam.cs.mpmgc.formula1.api.players.*;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackRenderer;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
 import it.unicam.cs.mpmgc.formula1.api.utils.Position;
 
+import javafx.animation.AnimationTimer;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.fxml.FXML;
@@ -39,17 +43,24 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.control.Slider;
 import javafx.scene.layout.GridPane;
+import javafx.scene.layout.Pane;
 import javafx.stage.Stage;
+import javafx.stage.WindowEvent;
 import javafx.event.ActionEvent;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.paint.Color;
 import javafx.util.Duration;
 
 import java.io.IOException;
+import java.util.List;
 
 /**
  * Controller class for JavaFX.
+ * The bots only race is played by a RaceSimulation on its own thread, and only drawn by the JavaFX thread.
+ * The race against the human player still runs on the JavaFX thread, moved by a Timeline,
+ * since the human moves come from the key events of that thread, and the race is played at real time speed.
  */
 public class Controller {
 
@@ -63,15 +74,37 @@ public class Controller {
     private Button stepButton;
     @FXML
     private Button runButton;
+    @FXML
+    private Slider speedSlider;
+    @FXML
+    private Label speedLabel;
+    @FXML
+    private Label roundsLabel;
 
     private static final int CELL_SIZE = 20;
+    private static final int MAX_GRID_CELLS = 10_000;
+    private static final double CANVAS_WIDTH = 310;
+    private static final double CANVAS_HEIGHT = 360;
+    private static final double REAL_TIME_ROUNDS_PER_SECOND = 4;
+    private static final long ROUNDS_SAMPLE_NANOS = 500_000_000;
+    private static final String TRACK_FILE = System.getProperty("formula1.track", "trackFormat.txt");
 
     private GameSetup gameSetup;
     private GamePlay gamePlay;
+    private final TrackRenderer trackRenderer;
     private String playersFile;
 
     private boolean gameOver;
     private Timeline botTimeline;
+    private RaceSimulation simulation;
+    private AnimationTimer frameTimer;
+    private int drawnRound;
+    private int sampledRound;
+    private long sampledTime;
+
+    private Rectangle[][] cellNodes;
+    private int[] drawnPositions;
+    private TrackCanvas trackCanvas;
 
     /**
      * Creates a new instance of Controller, sets the predefined player configuration to only Bots,
@@ -80,6 +113,7 @@ public class Controller {
     public Controller(){
         this.playersFile = "botsOnly.txt";
         this.gameOver = false;
+        this.trackRenderer = new TrackRenderer();
     }
 
     /**
@@ -87,6 +121,10 @@ public class Controller {
      */
     public void initialize(){
         setup();
+        if (speedSlider != null){
+            speedSlider.valueProperty().addListener((observable, oldValue, newValue) -> updateSpeed());
+            updateSpeed();
+        }
     }
 
     /**
@@ -94,7 +132,7 @@ public class Controller {
      */
     private void setup(){
         gameSetup = new GameSetup();
-        gameSetup.setupGame(playersFile, "trackFormat.txt");
+        gameSetup.setupGame(playersFile, TRACK_FILE);
         gamePlay = new GamePlay(gameSetup);
     }
 
@@ -114,6 +152,9 @@ public class Controller {
         finalResult = (Label) root.lookup("#finalResult");
         stepButton = (Button) root.lookup("#stepButton");
         runButton = (Button) root.lookup("#runButton");
+        speedSlider = (Slider) root.lookup("#speedSlider");
+        speedLabel = (Label) root.lookup("#speedLabel");
+        roundsLabel = (Label) root.lookup("#roundsLabel");
 
         this.playersFile = "playersFormat.txt";
         setup();
@@ -121,7 +162,7 @@ public class Controller {
         keyHandler(scene);
         botTimeline.play();
 
-        displayTrack();
+        displayTrack(currentPositions());
 
         stage.setScene(scene);
         stage.show();
@@ -143,11 +184,14 @@ public class Controller {
         finalResult = (Label) root.lookup("#finalResult");
         stepButton = (Button) root.lookup("#stepButton");
         runButton = (Button) root.lookup("#runButton");
+        speedSlider = (Slider) root.lookup("#speedSlider");
+        speedLabel = (Label) root.lookup("#speedLabel");
+        roundsLabel = (Label) root.lookup("#roundsLabel");
 
         this.playersFile = "botsOnly.txt";
         setup();
         showStepAndRunButtons();
-        displayTrack();
+        displayTrack(currentPositions());
 
         stage.setScene(scene);
         stage.show();
@@ -158,6 +202,7 @@ public class Controller {
      */
     @FXML
     private void exitGame(){
+        stopSimulation();
         if (stage != null){
             stage.close();
         }
@@ -167,25 +212,52 @@ public class Controller {
     }
 
     /**
-     * Shows Step run button, and Full run Button, only when the players are all bots.
+     * Shows Step run button, Full run Button and the speed slider, only when the players are all bots.
      */
     private void showStepAndRunButtons(){
         stepButton.setDisable(false);
         runButton.setDisable(false);
+        speedSlider.setDisable(false);
+    }
+
+    /**
+     * Gives to the simulation the speed chosen with the slider, and shows it.
+     */
+    private void updateSpeed(){
+        double roundsPerSecond = selectedRoundsPerSecond();
+        if (Double.isInfinite(roundsPerSecond)){
+            speedLabel.setText("Speed: turbo");
+        }
+        else {
+            speedLabel.setText(String.format("Speed: %.0f rounds/s", roundsPerSecond));
+        }
+        if (simulation != null){
+            simulation.setRoundsPerSecond(roundsPerSecond);
+        }
+    }
+
+    /**
+     * The first step of the slider is real time, the speed of the human game, every next step doubles it,
+     * and the last step is turbo, where the rounds are played as fast as possible.
+     * @return the rounds per second chosen with the slider, infinity for turbo.
+     */
+    private double selectedRoundsPerSecond(){
+        double step = Math.round(speedSlider.getValue());
+        if (step >= speedSlider.getMax()){
+            return Double.POSITIVE_INFINITY;
+        }
+        return REAL_TIME_ROUNDS_PER_SECOND * Math.pow(2, step);
     }
 
     /**
      * A Step Button that runs the race for one round per click.
+     * The round is played by the simulation thread, and drawn at the next frame.
      */
     @FXML
     private void stepRunGame(){
         if (!gameOver){
-            if (botTimeline == null){
-                setupBotMovement();
-            }
-            botTimeline.stop();
-            botTimeline.setCycleCount(1);
-            botTimeline.play();
+            startSimulation();
+            simulation.step();
         }
         else {
             stepButton.setDisable(true);
@@ -195,66 +267,244 @@ public class Controller {
 
     /**
      * A Run Button that runs the race until the end.
+     * The simulation thread plays the race at the speed of the slider, and every frame draws the last round played,
+     * so at high speeds the rounds played between two frames are not drawn, instead of slowing down the race.
      */
     @FXML
     private void fullRunGame(){
-        if (botTimeline == null){
-            setupBotMovement();
-        }
-        botTimeline.setCycleCount(Timeline.INDEFINITE);
-        botTimeline.play();
+        startSimulation();
+        simulation.run();
         runButton.setDisable(true);
         stepButton.setDisable(true);
     }
 
+    /**
+     * Creates the simulation of the bots only race, and the timer which draws it at every frame of the screen.
+     * From now on the cars are moved only by the simulation thread, the UI only reads its snapshots.
+     * The simulation is stopped when its scene leaves the window, or the window is closed.
+     */
+    private void startSimulation(){
+        if (simulation != null){
+            return;
+        }
+        simulation = new RaceSimulation(gameSetup);
+        simulation.setRoundsPerSecond(selectedRoundsPerSecond());
+        drawnRound = simulation.getSnapshot().round();
+        sampledRound = drawnRound;
+        sampledTime = System.nanoTime();
+        frameTimer = new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                drawSnapshot(now);
+            }
+        };
+        frameTimer.start();
+        Scene scene = stepButton.getScene();
+        scene.windowProperty().addListener((observable, oldWindow, newWindow) -> stopSimulation());
+        scene.getWindow().addEventHandler(WindowEvent.WINDOW_HIDDEN, event -> stopSimulation());
+    }
+
+    /**
+     * Draws the last snapshot of the simulation, if a round was played since the last frame,
+     * and shows the rounds played per second, a round being a move of every car, measured every ROUNDS_SAMPLE_NANOS.
+     * When a bot has won, the timer stops and the lose message is shown,
+     * when the simulation has failed, the timer stops and the error is shown.
+     * @param now the time of the frame in nanoseconds.
+     */
+    private void drawSnapshot(long now){
+        RaceSnapshot snapshot = simulation.getSnapshot();
+        if (now - sampledTime >= ROUNDS_SAMPLE_NANOS){
+            double roundsPerSecond = (snapshot.round() - sampledRound) * 1e9 / (now - sampledTime);
+            roundsLabel.setText(String.format("Played: %.1f rounds/s", roundsPerSecond));
+            sampledRound = snapshot.round();
+            sampledTime = now;
+        }
+        if (snapshot.round() == drawnRound && !snapshot.isFinished()){
+            return;
+        }
+        drawnRound = snapshot.round();
+        refreshTrack(snapshot.positions());
+        if (snapshot.isFinished()){
+            frameTimer.stop();
+            if (snapshot.isFailed()){
+                gameOver = true;
+                finalResult.setText("Race stopped: " + snapshot.failure());
+                finalResult.setTextFill(Color.RED);
+            }
+            else {
+                gameLost();
+            }
+            stepButton.setDisable(true);
+            runButton.setDisable(true);
+        }
+    }
+
+    /**
+     * Stops the simulation thread and the timer drawing it, if the simulation was started.
+     * It can be called many times, on every path leaving the bots only scene.
+     */
+    private void stopSimulation(){
+        if (simulation != null){
+            frameTimer.stop();
+            simulation.stop();
+        }
+    }
+
     /**
      * Displays the track grid on the screen by rendering the track matrix.
+     * A cell node is created for every cell of the track only here, when the game scene is shown,
+     * then the moves of the cars only repaint the cells they left and entered, see refreshTrack().
+     * Tracks with more than MAX_GRID_CELLS cells are drawn on a canvas instead, see displayCanvas().
+     * @param positions the packed positions of the cars, in the order of the players.
      */
-    private void displayTrack(){
+    private void displayTrack(int[] positions){
         trackGrid.getChildren().clear();
+        iTrack track = gameSetup.getOverlay().getBase();
+        if ((long) track.getRows() * track.getColumns() > MAX_GRID_CELLS){
+            displayCanvas(track, positions);
+            return;
+        }
+        List<String> trackLines = gameSetup.getTrackLines();
+        cellNodes = new Rectangle[trackLines.size()][];
 
-        for (int row = 0; row < gameSetup.getTrackLines().size(); row++){
-            String line = gameSetup.getTrackLines().get(row);
+        for (int row = 0; row < trackLines.size(); row++){
+            String line = trackLines.get(row);
+            cellNodes[row] = new Rectangle[line.length()];
             for (int column = 0; column < line.length(); column++){
-                char cellType = line.charAt(column);
-
                 Rectangle cell = new Rectangle(CELL_SIZE, CELL_SIZE);
-
-                switch (cellType){
-                    case '#' : cell.setFill(Color.BLACK); break;
-                    case '.' : cell.setFill(Color.LIGHTGRAY); break;
-                    case '_' : cell.setFill(Color.YELLOW); break;
-                    default  : cell.setFill(Color.WHITE); break;
-                }
-
+                cell.setFill(cellColor(line.charAt(column)));
+                cellNodes[row][column] = cell;
                 trackGrid.add(cell, column, row);
             }
         }
-        placeRacers();
+        placeRacers(positions);
     }
 
     /**
-     * Places the players on the track grid based on their positions.
+     * Displays the track on a canvas in the place of the track grid,
+     * which draws the whole track once, and then only the cars at every frame.
+     * The view can be moved by dragging it, and zoomed with the mouse wheel.
+     * @param track the track to be displayed, without cars on it.
+     * @param positions the packed positions of the cars, in the order of the players.
      */
-    private void placeRacers(){
-        Color color;
-        iMovementStrategy movementStrategy;
-        for (Car car : gameSetup.getPlayers()){
-            movementStrategy = car.getMovementStrategy();
-            if (movementStrategy instanceof HumanMovementStrategy){
-                color = Color.RED;
-            }
-            else if (movementStrategy instanceof EasyBotStrategy){
-                color = Color.BLUE;
+    private void displayCanvas(iTrack track, int[] positions){
+        List<Car> players = gameSetup.getPlayers();
+        Color[] carColors = new Color[players.size()];
+        for (int car = 0; car < carColors.length; car++){
+            carColors[car] = carColor(players.get(car));
+        }
+        trackCanvas = new TrackCanvas(track, carColors, CANVAS_WIDTH, CANVAS_HEIGHT);
+        trackCanvas.getCanvas().setLayoutX(trackGrid.getLayoutX());
+        trackCanvas.getCanvas().setLayoutY(trackGrid.getLayoutY());
+        ((Pane) trackGrid.getParent()).getChildren().add(trackCanvas.getCanvas());
+        trackCanvas.draw(positions);
+    }
+
+    /**
+     * Places the players on the track grid based on their positions, by painting their cells,
+     * and remembers where every player was drawn.
+     */
+    private void placeRacers(int[] positions){
+        List<Car> players = gameSetup.getPlayers();
+        drawnPositions = positions.clone();
+        for (int car = 0; car < players.size(); car++){
+            paintCell(drawnPositions[car], carColor(players.get(car)));
+        }
+    }
+
+    /**
+     * Reads the positions of the players, only from the JavaFX thread, while no simulation is moving them.
+     * @return the packed positions of the players, in their order.
+     */
+    private int[] currentPositions(){
+        List<Car> players = gameSetup.getPlayers();
+        int[] positions = new int[players.size()];
+        for (int car = 0; car < positions.length; car++){
+            positions[car] = players.get(car).getPackedPosition();
+        }
+        return positions;
+    }
+
+    /**
+     * Updates the track grid after the cars moved, so the cost of a frame depends on the number of cars,
+     * and not on the size of the track.
+     * First the cells left by the cars get back the color of the track,
+     * then the cells entered are painted, so a cell left by a car and entered by another one shows the last one.
+     * @param positions the packed positions of the cars, in the order of the players.
+     */
+    private void refreshTrack(int[] positions){
+        if (trackCanvas != null){
+            trackCanvas.draw(positions);
+            return;
+        }
+        if (cellNodes == null){
+            displayTrack(positions);
+            return;
+        }
+        List<Car> players = gameSetup.getPlayers();
+        for (int car = 0; car < positions.length; car++){
+            if (positions[car] != drawnPositions[car]){
+                restoreCell(drawnPositions[car]);
             }
-            else {
-                color = Color.GREEN;
+        }
+        for (int car = 0; car < positions.length; car++){
+            if (positions[car] != drawnPositions[car]){
+                paintCell(positions[car], carColor(players.get(car)));
+                drawnPositions[car] = positions[car];
             }
-            Rectangle player = new Rectangle(CELL_SIZE, CELL_SIZE, color);
-            trackGrid.add(player, car.getCurrentPosition().getColumn(), car.getCurrentPosition().getRow());
         }
     }
 
+    /**
+     * Paints the cell node of a packed position, nothing happens outside the track.
+     */
+    private void paintCell(int position, Color color){
+        int row = Position.rowOf(position);
+        int column = Position.columnOf(position);
+        if (row >= 0 && row < cellNodes.length && column >= 0 && column < cellNodes[row].length){
+            cellNodes[row][column].setFill(color);
+        }
+    }
+
+    /**
+     * Gives back to the cell node of a packed position the color of the track.
+     */
+    private void restoreCell(int position){
+        int row = Position.rowOf(position);
+        int column = Position.columnOf(position);
+        if (row >= 0 && row < cellNodes.length && column >= 0 && column < cellNodes[row].length){
+            cellNodes[row][column].setFill(cellColor(gameSetup.getTrackLines().get(row).charAt(column)));
+        }
+    }
+
+    /**
+     * @param cellType the character of the cell in the track file.
+     * @return the color of the cell.
+     */
+    private static Color cellColor(char cellType){
+        switch (cellType){
+            case '#' : return Color.BLACK;
+            case '.' : return Color.LIGHTGRAY;
+            case '_' : return Color.YELLOW;
+            default  : return Color.WHITE;
+        }
+    }
+
+    /**
+     * @param car the car to be painted.
+     * @return red for the human player, blue for EASY bots, green for the other bots.
+     */
+    private static Color carColor(Car car){
+        iMovementStrategy movementStrategy = car.getMovementStrategy();
+        if (movementStrategy instanceof HumanMovementStrategy){
+            return Color.RED;
+        }
+        else if (movementStrategy instanceof EasyBotStrategy){
+            return Color.BLUE;
+        }
+        return Color.GREEN;
+    }
+
     /**
      * Handles keyboard input from user for controlling the player car.
      * @param scene the scene where the key events are obtained.
@@ -287,7 +537,7 @@ public class Controller {
     }
 
     /**
-     * Moves the player car in the specified direction,
+     * Moves the player car in the specified direction, if the new cell is free on the track overlay,
      * Checks if the player won after each move, and updates the track grid.
      * @param direction the direction in which the player car is moving.
      */
@@ -304,12 +554,16 @@ public class Controller {
                     case RIGHT -> newCol++;
                 }
 
-                if (gameSetup.getTrack().checkValidMove(new Position(newRow, newCol))) {
-                    car.updatePosition(new Position(newRow, newCol));
+                TrackOverlay overlay = gameSetup.getOverlay();
+                Position newPosition = overlay.positionAt(newRow, newCol);
+                if (overlay.checkValidMove(newPosition)) {
+                    trackRenderer.clearPlayerPosition(car, overlay);
+                    car.updatePosition(newPosition);
+                    trackRenderer.placePlayer(car, overlay);
                     if (gamePlay.checkWinner(car)) {
                         gameWon();
                     } else {
-                        displayTrack();
+                        refreshTrack(currentPositions());
                     }
                 }
             }
@@ -317,31 +571,35 @@ public class Controller {
     }
 
     /**
-     * Moves the bot cars based on their strategies.
+     * Moves the bot cars based on their strategies,
+     * every bot leaves its cell on the track overlay before moving and occupies the new one after.
      * Checks if a bot won after each move.
      */
     private void moveBots() {
+        TrackOverlay overlay = gameSetup.getOverlay();
         for (Car car : gameSetup.getPlayers()){
             if (!(car.getMovementStrategy() instanceof HumanMovementStrategy)){
                 if (gameOver){
                     return;
                 }
+                trackRenderer.clearPlayerPosition(car, overlay);
                 car.getMovementStrategy().move(car.getCurrentPosition());
+                trackRenderer.placePlayer(car, overlay);
                 if (gamePlay.checkWinner(car)) {
                     gameLost();
                 }
             }
         }
-        displayTrack();
+        refreshTrack(currentPositions());
     }
 
 
     /**
-     * Sets up a timeLine for bot movement with a move every 250 milliSeconds.
+     * Sets up a timeLine for bot movement at real time speed, a move every 250 milliSeconds.
      * The timeLine repeats indefinitely, until a bot or human win, and it stops.
      */
     private void setupBotMovement() {
-        botTimeline = new Timeline(new KeyFrame(Duration.millis(250), event -> moveBots()));
+        botTimeline = new Timeline(new KeyFrame(Duration.millis(1000 / REAL_TIME_ROUNDS_PER_SECOND), event -> moveBots()));
         botTimeline.setCycleCount(Timeline.INDEFINITE);
     }
 
@@ -0,0 +1,172 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.app;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * This class runs a bots only race on a background thread, so the speed of the simulation does not depend on the UI.
+ * After every round the positions of the cars are published as an immutable snapshot in an AtomicReference,
+ * and the UI reads the last one when it draws a frame, without locks, and without reading the cars
+ * while the simulation moves them. Rounds played between two frames are simply never drawn.
+ * The full run can be paced to a number of rounds per second, or run as fast as possible.
+ * If a round throws an exception, the simulation stops, and the error is published in the last snapshot.
+ * The simulation thread is shut down as soon as the race is finished or failed, or when the simulation is stopped.
+ */
+final class RaceSimulation {
+
+    private final RaceEngine engine;
+    private final List<iCar> cars;
+    private final AtomicReference<RaceSnapshot> snapshot;
+    private final ExecutorService executor;
+    private volatile boolean running;
+    private volatile long roundNanos;
+
+    /**
+     * Creates the simulation of the race of a game setup, with the cars on their starting positions.
+     * From now on the cars of the setup are moved only by the simulation thread.
+     * @param setup the setup of a bots only game.
+     * @throws IllegalArgumentException if a player is not a bot.
+     */
+    RaceSimulation(GameSetup setup){
+        this.engine = new RaceEngine(setup);
+        this.cars = engine.getCars();
+        this.snapshot = new AtomicReference<>(takeSnapshot(null));
+        this.executor = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "race-simulation");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Plays one round on the simulation thread, after the rounds already requested.
+     * Nothing happens once the simulation thread is shut down.
+     */
+    void step(){
+        submit(this::playRound);
+    }
+
+    /**
+     * Plays the race until a car wins, or the simulation is stopped, at the speed set with setRoundsPerSecond().
+     * When the simulation is late, it does not play the missed rounds in a burst, it just goes on from now.
+     */
+    void run(){
+        running = true;
+        submit(() -> {
+            long deadline = System.nanoTime();
+            while (running && !engine.isFinished() && !getSnapshot().isFailed()){
+                playRound();
+                deadline += roundNanos;
+                long wait;
+                while (running && (wait = deadline - System.nanoTime()) > 0){
+                    LockSupport.parkNanos(wait);
+                }
+                deadline = Math.max(deadline, System.nanoTime() - roundNanos);
+            }
+        });
+    }
+
+    /**
+     * Sets the speed of the full run, it can be changed while the race is running.
+     * @param roundsPerSecond the rounds to be played every second, infinity to play them as fast as possible.
+     * @throws IllegalArgumentException if roundsPerSecond is not positive.
+     */
+    void setRoundsPerSecond(double roundsPerSecond){
+        if (!(roundsPerSecond > 0)){
+            throw new IllegalArgumentException("The rounds per second must be positive.");
+        }
+        this.roundNanos = (long) (1_000_000_000 / roundsPerSecond);
+    }
+
+    /**
+     * Stops the simulation thread, the rounds not played yet are discarded.
+     */
+    void stop(){
+        running = false;
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return the last published snapshot of the race.
+     */
+    RaceSnapshot getSnapshot(){
+        return snapshot.get();
+    }
+
+    /**
+     * Runs a task on the simulation thread, a task submitted after the race is over is dropped,
+     * since the thread has already been shut down.
+     */
+    private void submit(Runnable task){
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e){
+            running = false;
+        }
+    }
+
+    /**
+     * Plays a round and publishes its snapshot, nothing happens after a failed round.
+     * An exception thrown by the round is not propagated, since it would only kill the simulation thread,
+     * it is published instead, so the UI can show it.
+     * After the last snapshot of a finished or failed race the simulation thread is shut down.
+     */
+    private void playRound(){
+        if (getSnapshot().isFailed()){
+            return;
+        }
+        try {
+            boolean finished = engine.playRound();
+            snapshot.set(takeSnapshot(null));
+            if (finished){
+                executor.shutdown();
+            }
+        } catch (RuntimeException e){
+            running = false;
+            snapshot.set(takeSnapshot(e.getMessage() == null ? e.toString() : e.getMessage()));
+            executor.shutdown();
+        }
+    }
+
+    private RaceSnapshot takeSnapshot(String failure){
+        int[] positions = new int[cars.size()];
+        for (int car = 0; car < positions.length; car++){
+            positions[car] = cars.get(car).getPackedPosition();
+        }
+        iCar winner = engine.getWinner();
+        return new RaceSnapshot(engine.getRound(), positions, winner == null ? -1 : cars.indexOf(winner), failure);
+    }
+
+}
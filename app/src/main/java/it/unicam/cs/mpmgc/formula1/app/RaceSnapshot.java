@@ -0,0 +1,51 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.app;
+
+/**
+ * This record is the state of a race after a round, published by the simulation thread to the UI.
+ * The positions array is never changed after the snapshot is published, so it can be read by any thread.
+ * @param round the number of rounds played.
+ * @param positions the packed positions of the cars, in move order, see Position.pack().
+ * @param winner the index of the winner car, -1 if nobody has won yet.
+ * @param failure the error which stopped the simulation, null if the race is running or won.
+ */
+record RaceSnapshot(int round, int[] positions, int winner, String failure) {
+
+    /**
+     * @return true if a car has won the race, or the simulation has failed, false otherwise.
+     */
+    boolean isFinished(){
+        return winner >= 0 || isFailed();
+    }
+
+    /**
+     * @return true if the simulation was stopped by an error, false otherwise.
+     */
+    boolean isFailed(){
+        return failure != null;
+    }
+
+}
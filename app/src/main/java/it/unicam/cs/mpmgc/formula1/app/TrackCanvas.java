@@ -0,0 +1,189 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.app;
+
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+
+/**
+ * This class draws the track on a Canvas, for the tracks too big to have a node for every cell.
+ * The track is drawn only once in an off-screen image with a pixel for every cell,
+ * then every frame copies the visible part of the image scaled by the zoom, and draws the cars over it,
+ * so the cost of a frame does not depend on the size of the track.
+ * The view is moved by dragging it with the mouse, and zoomed with the mouse wheel.
+ */
+final class TrackCanvas {
+
+    private static final double MAX_ZOOM = 32;
+    private static final double ZOOM_STEP = 1.25;
+    private static final double MIN_CAR_SIZE = 2;
+
+    private static final int WALL = 0xFF000000;
+    private static final int ROAD = 0xFFD3D3D3;
+    private static final int FINISH = 0xFFFFFF00;
+    private static final int OTHER = 0xFFFFFFFF;
+
+    private final Canvas canvas;
+    private final WritableImage trackImage;
+    private final Color[] carColors;
+    private final int rows;
+    private final int columns;
+    private final double minZoom;
+
+    private double zoom;
+    private double offsetX;
+    private double offsetY;
+    private double dragX;
+    private double dragY;
+    private int[] positions;
+
+    /**
+     * Creates the canvas of a track, zoomed out to show the whole track.
+     * @param track the track to be drawn, without cars on it.
+     * @param carColors the color of every car, in the order of the positions given to draw().
+     * @param width the width of the canvas.
+     * @param height the height of the canvas.
+     */
+    TrackCanvas(iTrack track, Color[] carColors, double width, double height){
+        this.canvas = new Canvas(width, height);
+        this.carColors = carColors;
+        this.positions = new int[0];
+        this.rows = track.getRows();
+        this.columns = track.getColumns();
+        this.trackImage = drawTrack(track);
+        this.minZoom = Math.min(MAX_ZOOM, Math.min(width / columns, height / rows));
+        this.zoom = minZoom;
+
+        canvas.setOnMousePressed(event -> {
+            dragX = event.getX();
+            dragY = event.getY();
+        });
+        canvas.setOnMouseDragged(event -> {
+            moveView(offsetX - (event.getX() - dragX) / zoom, offsetY - (event.getY() - dragY) / zoom);
+            dragX = event.getX();
+            dragY = event.getY();
+            draw(positions);
+        });
+        canvas.setOnScroll(event -> {
+            double factor = event.getDeltaY() > 0 ? ZOOM_STEP : 1 / ZOOM_STEP;
+            zoomAt(event.getX(), event.getY(), factor);
+            draw(positions);
+        });
+    }
+
+    /**
+     * Draws every cell of the track in an image, a row at a time.
+     */
+    private static WritableImage drawTrack(iTrack track){
+        int rows = track.getRows();
+        int columns = track.getColumns();
+        WritableImage image = new WritableImage(columns, rows);
+        PixelWriter writer = image.getPixelWriter();
+        int[] line = new int[columns];
+        for (int row = 0; row < rows; row++){
+            for (int column = 0; column < columns; column++){
+                line[column] = cellColor(track.cellAt(row, column));
+            }
+            writer.setPixels(0, row, columns, 1, PixelFormat.getIntArgbInstance(), line, 0, columns);
+        }
+        return image;
+    }
+
+    /**
+     * @param cellType the character of the cell in the track file.
+     * @return the ARGB color of the cell, the same colors of the track grid.
+     */
+    private static int cellColor(char cellType){
+        switch (cellType){
+            case '#' : return WALL;
+            case '.' : return ROAD;
+            case '_' : return FINISH;
+            default  : return OTHER;
+        }
+    }
+
+    /**
+     * Draws a frame: the visible part of the track image, then the visible cars.
+     * The positions are kept, so the cars stay in place when the view is moved or zoomed.
+     * @param positions the packed positions of the cars, see Position.pack().
+     */
+    void draw(int[] positions){
+        this.positions = positions;
+        GraphicsContext graphics = canvas.getGraphicsContext2D();
+        double width = canvas.getWidth();
+        double height = canvas.getHeight();
+        graphics.setFill(Color.WHITE);
+        graphics.fillRect(0, 0, width, height);
+
+        double visibleColumns = Math.min(width / zoom, columns - offsetX);
+        double visibleRows = Math.min(height / zoom, rows - offsetY);
+        graphics.setImageSmoothing(zoom < 1);
+        graphics.drawImage(trackImage, offsetX, offsetY, visibleColumns, visibleRows,
+                0, 0, visibleColumns * zoom, visibleRows * zoom);
+
+        double carSize = Math.max(zoom, MIN_CAR_SIZE);
+        for (int car = 0; car < positions.length; car++){
+            double x = (Position.columnOf(positions[car]) - offsetX) * zoom;
+            double y = (Position.rowOf(positions[car]) - offsetY) * zoom;
+            if (x > -carSize && y > -carSize && x < width && y < height){
+                graphics.setFill(carColors[car]);
+                graphics.fillRect(x, y, carSize, carSize);
+            }
+        }
+    }
+
+    /**
+     * Zooms the view keeping the cell under the given point of the canvas in the same place.
+     */
+    private void zoomAt(double x, double y, double factor){
+        double cellX = offsetX + x / zoom;
+        double cellY = offsetY + y / zoom;
+        zoom = Math.max(minZoom, Math.min(MAX_ZOOM, zoom * factor));
+        moveView(cellX - x / zoom, cellY - y / zoom);
+    }
+
+    /**
+     * Moves the top left corner of the view, keeping the view inside the track.
+     */
+    private void moveView(double x, double y){
+        offsetX = Math.max(0, Math.min(x, columns - canvas.getWidth() / zoom));
+        offsetY = Math.max(0, Math.min(y, rows - canvas.getHeight() / zoom));
+    }
+
+    /**
+     * @return the canvas where the track is drawn.
+     */
+    Canvas getCanvas(){
+        return canvas;
+    }
+
+}
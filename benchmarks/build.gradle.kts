@@ -0,0 +1,27 @@
+/*
+ * Micro benchmarks of the track, strategies and race engine hot paths.
+ * Run them with ./gradlew :benchmarks:jmh
+ */
+
+plugins {
+    id("it.unicam.cs.mpmgc.formula1.java-library-conventions")
+    id("me.champeau.jmh") version "0.7.2"
+}
+
+repositories {
+    mavenCentral()
+}
+
+dependencies {
+    jmh(project(":api"))
+}
+
+jmh {
+    jmhVersion.set("1.37")
+    fork.set(1)
+    warmupIterations.set(3)
+    iterations.set(5)
+    resultFormat.set("JSON")
+    // THE LARGEST MATRIX TRACKS NEED A FEW HUNDRED MEGABYTES EACH
+    jvmArgs.set(listOf("-Xmx4g"))
+}
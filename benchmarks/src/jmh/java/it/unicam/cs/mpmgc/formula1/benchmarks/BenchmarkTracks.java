@@ -0,0 +1,49 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.benchmarks;
+
+import it.unicam.cs.mpmgc.formula1.api.track.TrackGenerator;
+
+/**
+ * This class chooses the shape of the generated tracks used by the benchmarks,
+ * so every benchmark of the same size runs on the same circuit.
+ */
+final class BenchmarkTracks {
+
+    private BenchmarkTracks(){}
+
+    /**
+     * Creates the generator of a square circuit of the given size,
+     * with a corridor one sixteenth of the track wide, and four bumps from 64 x 64 up.
+     * @param size the number of rows and columns of the track.
+     * @return the track generator.
+     */
+    static TrackGenerator square(int size){
+        int width = Math.max(3, size / 16);
+        int curvature = size < 64 ? 0 : 4;
+        return new TrackGenerator(size, size, width, curvature, width);
+    }
+
+}
@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.benchmarks;
+
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.game.RaceState;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.HardBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a crowded headless race of DISTANCE and HARD bots on a 256 x 256 track,
+ * with the cars kept in the parallel arrays of a RaceState, or as Car and strategy objects.
+ * Every invocation places the cars on the starting grid, then plays ROUNDS rounds.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CrowdBenchmark {
+
+    private static final int SIZE = 256;
+    private static final int ROUNDS = 100;
+
+    @Param({"16", "128", "512"})
+    public int cars;
+
+    private iTrack track;
+    private SplittableRandom random;
+
+    /**
+     * Builds the track and its distance field.
+     */
+    @Setup
+    public void setUp(){
+        track = BenchmarkTracks.square(SIZE).createTrack(TrackType.PACKED);
+        track.getDistanceField();
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public int stateRace(){
+        RaceState state = new RaceState(track, random.split());
+        for (int car = 0; car < cars; car++){
+            state.addCar(car % 2 == 0 ? "DistanceBot" : "HardBot", "bot" + car);
+        }
+        RaceEngine engine = RaceEngine.forState(state);
+        engine.run(ROUNDS);
+        return engine.getRound();
+    }
+
+    @Benchmark
+    public int objectRace(){
+        // THE SAME STARTING GRID OF THE RACE STATE
+        RaceState grid = new RaceState(track, random);
+        TrackOverlay overlay = new TrackOverlay(track);
+        List<Car> players = new ArrayList<>(cars);
+        for (int car = 0; car < cars; car++){
+            grid.addCar("EasyBot", "bot" + car);
+            Car player = car % 2 == 0
+                    ? new Car("bot" + car, new DistanceBotStrategy(overlay))
+                    : new Car("bot" + car, new HardBotStrategy(overlay, random.split()));
+            player.updatePosition(grid.getRow(car), grid.getColumn(car));
+            players.add(player);
+        }
+        RaceEngine engine = new RaceEngine(overlay, players);
+        engine.run(ROUNDS);
+        return engine.getRound();
+    }
+
+}
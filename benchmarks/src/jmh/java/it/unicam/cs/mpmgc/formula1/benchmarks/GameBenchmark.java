@@ -0,0 +1,126 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.benchmarks;
+
+import it.unicam.cs.mpmgc.formula1.api.game.GamePlay;
+import it.unicam.cs.mpmgc.formula1.api.game.GameSetup;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackCache;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the console game setup and of the winner check made after every turn.
+ * The track is generated into a temporary file, which is read as any other track file,
+ * the players file is the one bundled with the api module.
+ * The console output of the setup is thrown away while they run.
+ * The setup is measured with a cold TrackCache, which reads and parses the track file at every setup
+ * as before the cache, and with a warm one, which only gets the cached track.
+ */
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    private static final String PLAYERS = "playersFormat.txt";
+
+    @Param({"16", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"MATRIX", "PACKED"})
+    public TrackType trackType;
+
+    private Path trackFile;
+    private PrintStream console;
+    private GamePlay gamePlay;
+    private iCar player;
+
+    /**
+     * The state of the shared track cache during the setup benchmark.
+     */
+    @State(Scope.Thread)
+    public static class CacheState {
+
+        @Param({"cold", "warm"})
+        public String cache;
+
+        /**
+         * Empties the shared track cache before every setup, when the cache is cold.
+         */
+        @Setup(Level.Invocation)
+        public void clearCache(){
+            if ("cold".equals(cache)){
+                TrackCache.shared().clear();
+            }
+        }
+
+    }
+
+    /**
+     * Writes the track file, silences the console, and sets up a game whose first player is checked for the win.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        trackFile = Files.createTempFile("track", ".txt");
+        BenchmarkTracks.square(size).writeTo(trackFile);
+        console = System.out;
+        System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        GameSetup setup = new GameSetup(trackType);
+        setup.loadGame(PLAYERS, trackFile.toString());
+        gamePlay = new GamePlay(setup);
+        player = setup.getPlayers().get(0);
+    }
+
+    /**
+     * Restores the console, and deletes the track file.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        System.setOut(console);
+        Files.deleteIfExists(trackFile);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public GameSetup setupGame(CacheState cacheState){
+        GameSetup setup = new GameSetup(trackType);
+        setup.setupGame(PLAYERS, trackFile.toString());
+        return setup;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean checkWinner(){
+        return gamePlay.checkWinner(player);
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.benchmarks;
+
+import it.unicam.cs.mpmgc.formula1.api.game.RaceEngine;
+import it.unicam.cs.mpmgc.formula1.api.players.Car;
+import it.unicam.cs.mpmgc.formula1.api.players.DistanceBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.HardBotStrategy;
+import it.unicam.cs.mpmgc.formula1.api.players.iCar;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackOverlay;
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of a full headless race, from the starting grid to the winner,
+ * between a DISTANCE bot, which always finishes, and a HARD bot.
+ * The track and its distance field are built once, so only the race itself is measured.
+ * Every race gets its own overlay, shared by the strategies and the engine, so the bots see each other.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RaceBenchmark {
+
+    @Param({"16", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"MATRIX", "PACKED"})
+    public TrackType trackType;
+
+    private iTrack track;
+    private SplittableRandom random;
+
+    /**
+     * Builds the track and its distance field.
+     */
+    @Setup
+    public void setUp(){
+        track = BenchmarkTracks.square(size).createTrack(trackType);
+        track.getDistanceField();
+        random = new SplittableRandom(42);
+    }
+
+    @Benchmark
+    public iCar race(){
+        TrackOverlay overlay = new TrackOverlay(track);
+        Car distance = new Car("distance", new DistanceBotStrategy(overlay));
+        Car hard = new Car("hard", new HardBotStrategy(overlay, random.split()));
+        distance.updatePosition(1, 1);
+        hard.updatePosition(2, 1);
+        RaceEngine engine = new RaceEngine(overlay, List.of(distance, hard));
+        return engine.run(size * size);
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2025 Basil Elsaid
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ *
+ */
+package it.unicam.cs.mpmgc.formula1.benchmarks;
+
+import it.unicam.cs.mpmgc.formula1.api.track.TrackType;
+import it.unicam.cs.mpmgc.formula1.api.track.iTrack;
+import it.unicam.cs.mpmgc.formula1.api.utils.Position;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of the track creation and of the move and path checks, for both track representations.
+ */
+@State(Scope.Benchmark)
+public class TrackBenchmark {
+
+    private static final int PROBES = 1 << 12;
+
+    @Param({"16", "256", "1024", "4096"})
+    public int size;
+
+    @Param({"MATRIX", "PACKED"})
+    public TrackType trackType;
+
+    private List<String> lines;
+    private iTrack track;
+    private int[] probes;
+    private int next;
+
+    /**
+     * Builds the track, and a fixed set of random positions to be checked on it.
+     */
+    @Setup
+    public void setUp(){
+        lines = BenchmarkTracks.square(size).generate();
+        track = trackType.createTrack(lines);
+        SplittableRandom random = new SplittableRandom(42);
+        probes = new int[PROBES];
+        for (int i = 0; i < PROBES; i++){
+            probes[i] = Position.pack(random.nextInt(size), random.nextInt(size));
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public iTrack createTrack(){
+        return trackType.createTrack(lines);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean checkValidMove(){
+        int probe = probes[next++ & (PROBES - 1)];
+        return track.checkValidMove(Position.rowOf(probe), Position.columnOf(probe));
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public boolean checkValidPath(){
+        int probe = probes[next++ & (PROBES - 1)];
+        return track.checkValidPath(probe, Position.pack(Position.rowOf(probe), Position.columnOf(probe) + 2));
+    }
+
+}
@@ -11,4 +11,4 @@ plugins {
 }
 
 rootProject.name = "FORMULA1"
-include("api", "app")
+include("api", "app", "benchmarks")